@@ -0,0 +1,66 @@
+// Prueba de carga con k6 (https://k6.io): API servlet vs API reactiva con alta concurrencia.
+//
+// Uso (misma BD MySQL para ambas; correr una a la vez en la misma maquina):
+//   ./gradlew bootRun --args='--app.rate-limit.enabled=false'     # servlet (puerto 8080)
+//   ./gradlew :reactive:bootRun                                   # reactiva (puerto 8081)
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=5000 loadtest/reactive-vs-servlet.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=5000 loadtest/reactive-vs-servlet.js
+//
+// Trafico de solo lectura con mucho fan-in: lecturas por id (80%) y paginas
+// por cursor (20%). El rate limiting de la API servlet se desactiva para
+// medir solo el modelo de hilos. Comparar http_reqs, p(99) y los errores.
+// La API reactiva es de solo lectura: correr primero contra la servlet para
+// crear los estudiantes; la corrida reactiva reutiliza los existentes.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '5000');
+const SEED = 500;
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'p(99.9)', 'max'],
+};
+
+// Toma los ids existentes (endpoint comun a ambas APIs); si faltan, los crea
+// (solo la API servlet acepta altas)
+export function setup() {
+    const page = http.get(`${BASE_URL}/api/students/cursor?size=${SEED}`);
+    const ids = page.status === 200 ? page.json('items').map((s) => s.id) : [];
+    for (let i = ids.length; i < SEED; i++) {
+        const res = http.post(`${BASE_URL}/api/students`, JSON.stringify({
+            fullName: `Fan In ${i}`,
+            email: `fanin${i}.${Date.now()}@loadtest.dev`,
+        }), { headers: { 'Content-Type': 'application/json' } });
+        if (res.status !== 201) {
+            break;
+        }
+        ids.push(res.json('id'));
+    }
+    if (ids.length === 0) {
+        throw new Error('Sin estudiantes: correr primero contra la API servlet para crearlos');
+    }
+    return { ids };
+}
+
+export default function (data) {
+    if (Math.random() < 0.8) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        const res = http.get(`${BASE_URL}/api/students/${id}`);
+        check(res, { 'get 200': (r) => r.status === 200 });
+    } else {
+        const res = http.get(`${BASE_URL}/api/students/cursor?size=50`);
+        check(res, { 'page 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,62 @@
+// Prueba de carga con k6 (https://k6.io) para comparar hilos de plataforma vs virtuales.
+//
+// Uso:
+//   ./gradlew bootRun                                             # hilos de plataforma
+//   ./gradlew bootRun --args='--spring.profiles.active=virtual'   # hilos virtuales
+//   ./gradlew bootRun --args='--spring.profiles.active=prod'      # perfil de rendimiento (MySQL)
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 loadtest/students.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=10000 loadtest/students.js
+//
+// Cada usuario virtual mantiene su conexion y alterna lecturas por id (90%)
+// con altas (10%). k6 imprime throughput (http_reqs) y percentiles
+// (http_req_duration p(90), p(99)) para comparar ambos modos.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000');
+const SEED = 1000;
+
+export const options = {
+    scenarios: {
+        students: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'p(99.9)', 'max'],
+};
+
+// Precarga estudiantes con la importacion masiva y devuelve sus ids
+export function setup() {
+    const rows = [];
+    for (let i = 0; i < SEED; i++) {
+        rows.push({ fullName: `Load Student ${i}`, email: `load${i}.${Date.now()}@loadtest.dev` });
+    }
+    const res = http.post(`${BASE_URL}/api/students/import`, JSON.stringify(rows), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    return { ids: res.json('rows').filter((r) => r.id).map((r) => r.id) };
+}
+
+export default function (data) {
+    if (Math.random() < 0.9) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        const res = http.get(`${BASE_URL}/api/students/${id}`);
+        check(res, { 'get 200': (r) => r.status === 200 });
+    } else {
+        const body = JSON.stringify({
+            fullName: 'Load Writer',
+            email: `w${__VU}.${__ITER}.${Date.now()}@loadtest.dev`,
+        });
+        const res = http.post(`${BASE_URL}/api/students`, body, {
+            headers: { 'Content-Type': 'application/json' },
+        });
+        check(res, { 'create 201': (r) => r.status === 201 });
+    }
+}
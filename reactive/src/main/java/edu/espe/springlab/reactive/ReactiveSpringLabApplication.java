@@ -0,0 +1,13 @@
+package edu.espe.springlab.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveSpringLabApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveSpringLabApplication.class, args);
+	}
+
+}
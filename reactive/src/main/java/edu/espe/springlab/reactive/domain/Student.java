@@ -0,0 +1,95 @@
+package edu.espe.springlab.reactive.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * ENTIDAD R2DBC - STUDENT (Estudiante)
+ * 
+ * Misma tabla "students" que la entidad JPA de la aplicación principal
+ * (las columnas se nombran en snake_case: full_name, birth_date, ...).
+ * 
+ * DIFERENCIAS CON JPA:
+ * - No hay contexto de persistencia ni lazy loading: cada lectura
+ *   devuelve un objeto nuevo y cada save es un INSERT o UPDATE directo
+ * - Solo se lee: las filas las escribe la aplicación principal (el id sale
+ *   de su secuencia students_seq y updatedAt de cada escritura)
+ */
+@Table("students")
+public class Student {
+    @Id
+    private Long id;
+
+    private String fullName;
+
+    private String email;
+
+    private LocalDate birthDate;
+
+    private Boolean active;
+
+    @Version
+    private Long version;
+
+    private Instant updatedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package edu.espe.springlab.reactive.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * DTO DE SALIDA - Student Response
+ * 
+ * Se usa para DEVOLVER información de un estudiante al cliente.
+ * Incluye todos los campos del estudiante (incluyendo ID y active).
+ * 
+ * PROPÓSITO:
+ * - Ocultar la entidad JPA directa (buena práctica)
+ * - Controlar qué información se expone al cliente
+ * - Facilitar cambios sin afectar la capa de persistencia
+ * 
+ * version y updatedAt permiten a los clientes usar peticiones
+ * condicionales (ETag / Last-Modified).
+ * 
+ * MISMO CONTRATO JSON que StudentResponse de la aplicación principal,
+ * así los clientes pueden usar cualquiera de las dos APIs.
+ */
+public class StudentResponse {
+    private Long id;
+    private String fullName;
+    private String email;
+    private LocalDate birthDate;
+    private Boolean active;
+    private Long version;
+    private Instant updatedAt;
+
+    public StudentResponse() {}
+
+    public StudentResponse(Long id, String fullName, String email, LocalDate birthDate, Boolean active,
+                           Long version, Instant updatedAt) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.birthDate = birthDate;
+        this.active = active;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
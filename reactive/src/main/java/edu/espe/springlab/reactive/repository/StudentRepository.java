@@ -0,0 +1,25 @@
+package edu.espe.springlab.reactive.repository;
+
+import edu.espe.springlab.reactive.domain.Student;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * REPOSITORIO REACTIVO - Student
+ * 
+ * Mismas consultas que el repositorio JPA, pero cada método devuelve un
+ * Mono / Flux: el hilo no se bloquea esperando a la BD y las filas se
+ * entregan a medida que el suscriptor las pide (backpressure).
+ */
+public interface StudentRepository extends ReactiveCrudRepository<Student, Long> {
+
+    //Recorre toda la tabla ordenada por id (streaming)
+    @Query("select * from students order by id")
+    Flux<Student> streamAll();
+
+    //Pagina por cursor: las filas con id mayor al ultimo entregado
+    @Query("select * from students where id > :afterId order by id limit :limit")
+    Flux<Student> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+}
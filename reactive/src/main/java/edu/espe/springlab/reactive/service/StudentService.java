@@ -0,0 +1,22 @@
+package edu.espe.springlab.reactive.service;
+
+import edu.espe.springlab.reactive.dto.StudentPage;
+import edu.espe.springlab.reactive.dto.StudentResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Solo lectura: las escrituras pasan por la API servlet, que mantiene
+ * cachés, índices, estadísticas, auditoría y el feed de cambios.
+ */
+public interface StudentService {
+
+    //Obtener por id
+    Mono<StudentResponse> getById(Long id);
+
+    //Listar todos en streaming (con backpressure)
+    Flux<StudentResponse> streamAll();
+
+    //Listar por paginas con cursor (keyset por id)
+    Mono<StudentPage> listPage(String cursor, Integer size);
+}
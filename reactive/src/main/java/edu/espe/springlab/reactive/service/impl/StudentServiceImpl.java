@@ -0,0 +1,143 @@
+package edu.espe.springlab.reactive.service.impl;
+
+import edu.espe.springlab.reactive.domain.Student;
+import edu.espe.springlab.reactive.dto.StudentPage;
+import edu.espe.springlab.reactive.dto.StudentResponse;
+import edu.espe.springlab.reactive.repository.StudentRepository;
+import edu.espe.springlab.reactive.service.StudentService;
+import edu.espe.springlab.reactive.web.advice.BadRequestException;
+import edu.espe.springlab.reactive.web.advice.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * IMPLEMENTACIÓN REACTIVA DEL SERVICIO DE ESTUDIANTES
+ * 
+ * Mismas lecturas que StudentServiceImpl de la API servlet (paginación
+ * keyset con cursor opaco), pero ningún método bloquea: cada uno arma un
+ * Mono / Flux que se ejecuta cuando WebFlux se suscribe.
+ *
+ * SOLO LECTURA: la API servlet mantiene estado derivado de cada escritura
+ * (caché de estudiantes, cache de segundo nivel, índices de nombre y email,
+ * estadísticas, auditoría y feed de cambios) con eventos en su propio
+ * proceso. Una escritura hecha aquí no los actualizaría, así que las altas
+ * y cambios se hacen solo en la API servlet. Lo que se lee aquí refleja
+ * la tabla, no esas cachés.
+ * 
+ * STREAMING CON BACKPRESSURE:
+ * streamAll pide filas al driver en tandas de app.students.stream.prefetch
+ * (limitRate). WebFlux solo pide más elementos cuando el socket acepta
+ * escribir, así que un cliente lento frena la lectura en la BD en lugar de
+ * acumular filas en memoria.
+ * 
+ * Los cursores son compatibles con los de la API servlet.
+ */
+@Service
+public class StudentServiceImpl implements StudentService {
+    // Tamaño de pagina por defecto y maximo para la paginacion por cursor
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    // Prefijo del cursor antes de codificarlo en Base64
+    private static final String CURSOR_PREFIX = "id:";
+
+    private final StudentRepository repo;
+    private final int prefetch;
+
+    // Constructor para inyección de dependencias
+    public StudentServiceImpl(StudentRepository repo,
+                              @Value("${app.students.stream.prefetch:256}") int prefetch) {
+        this.repo = repo;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * OBTENER POR ID
+     * @throws NotFoundException si no existe el estudiante
+     */
+    @Override
+    public Mono<StudentResponse> getById(Long id) {
+        return repo.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Estudiante no encontrado")))
+                .map(StudentServiceImpl::toResponse);
+    }
+
+    /**
+     * RECORRER TODOS (STREAMING)
+     * Entrega las filas a medida que el cliente las consume.
+     */
+    @Override
+    public Flux<StudentResponse> streamAll() {
+        return repo.streamAll()
+                .limitRate(prefetch)
+                .map(StudentServiceImpl::toResponse);
+    }
+
+    /**
+     * LISTAR POR PAGINAS (CURSOR)
+     * Consulta size + 1 filas con id mayor al cursor; si sobra una,
+     * hay más resultados y se genera el siguiente cursor.
+     * @throws BadRequestException si el cursor o el tamaño no son validos
+     */
+    @Override
+    public Mono<StudentPage> listPage(String cursor, Integer size) {
+        return Mono.defer(() -> {
+            int pageSize = resolvePageSize(size);
+            long afterId = decodeCursor(cursor);
+            return repo.findPageAfter(afterId, pageSize + 1)
+                    .map(StudentServiceImpl::toResponse)
+                    .collectList()
+                    .map(rows -> {
+                        boolean hasMore = rows.size() > pageSize;
+                        List<StudentResponse> page = hasMore ? List.copyOf(rows.subList(0, pageSize)) : rows;
+                        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).getId()) : null;
+                        return new StudentPage(page, nextCursor);
+                    });
+        });
+    }
+
+    // Convierte la entidad al DTO de salida
+    private static StudentResponse toResponse(Student s) {
+        return new StudentResponse(s.getId(), s.getFullName(), s.getEmail(), s.getBirthDate(), s.getActive(),
+                s.getVersion(), s.getUpdatedAt());
+    }
+
+    // Valida el tamaño de pagina pedido (por defecto DEFAULT_PAGE_SIZE)
+    private static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("El tamaño de pagina debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    // Codifica el ultimo id entregado como un token opaco
+    private static String encodeCursor(Long lastId) {
+        byte[] raw = (CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // Decodifica el cursor recibido; sin cursor se empieza desde el inicio
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new BadRequestException("Cursor invalido");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Cursor invalido");
+        }
+    }
+}
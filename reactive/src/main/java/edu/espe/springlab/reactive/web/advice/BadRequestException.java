@@ -0,0 +1,7 @@
+package edu.espe.springlab.reactive.web.advice;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package edu.espe.springlab.reactive.web.advice;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MANEJO GLOBAL DE EXCEPCIONES (WebFlux)
+ * 
+ * Mismo formato de error que la API servlet:
+ * - NotFoundException (404) → Recurso no encontrado
+ * - BadRequestException (400) → Parámetros inválidos (ej: cursor)
+ * - Exception (500) → Errores genéricos
+ */
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 404 del negocio
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<?> handleNotFound(NotFoundException ex){
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    //400 por parametros invalidos (cursor, tamaño de pagina, etc.)
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> handleBadRequest(BadRequestException ex){
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    //500 generico
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<?> handleGeneric(Exception ex){
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+    }
+
+    //Construye el JSON estandar de error
+    private ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -0,0 +1,7 @@
+package edu.espe.springlab.reactive.web.advice;
+
+public class NotFoundException extends RuntimeException {
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,93 @@
+package edu.espe.springlab.reactive.web.controller;
+
+import edu.espe.springlab.reactive.dto.StudentPage;
+import edu.espe.springlab.reactive.dto.StudentResponse;
+import edu.espe.springlab.reactive.service.StudentService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST CONTROLLER REACTIVO - Student
+ * 
+ * Mismas rutas de lectura y respuestas que StudentController de la API
+ * servlet, atendidas por WebFlux (Netty): pocos hilos de event loop
+ * atienden miles de conexiones porque ninguna espera bloqueada a la BD.
+ * Base URL: /api/students
+ * 
+ * ENDPOINTS:
+ * - GET    /{id}                → Obtener por ID (ETag / Last-Modified)
+ * - GET    /                    → Listar todos (arreglo JSON escrito en streaming)
+ * - GET    / (application/x-ndjson) → Listar todos en streaming (NDJSON)
+ * - GET    /cursor              → Listar por paginas con cursor
+ * 
+ * Solo lectura: POST / y PATCH /{id}/deactivate existen solo en la API
+ * servlet (ver StudentServiceImpl).
+ * 
+ * Los listados respetan la backpressure: las filas se leen de la BD al
+ * ritmo al que el cliente las recibe.
+ */
+@RestController
+@RequestMapping("/api/students")
+public class StudentController {
+
+    private final StudentService studentService;
+
+    // Constructor para inyección de dependencias
+    public StudentController(StudentService studentService) {
+        this.studentService = studentService;
+    }
+
+    /**
+     * OBTENER POR ID
+     * GET /api/students/{id}
+     * ETag = id + version; WebFlux responde 304 si coincide con If-None-Match
+     * @return 200 OK + datos del estudiante (304 si no cambió, 404 si no existe)
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<StudentResponse>> getById(@PathVariable Long id){
+        return studentService.getById(id).map(student -> {
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                    .eTag(student.getId() + "-" + student.getVersion())
+                    .varyBy(HttpHeaders.ACCEPT);
+            if (student.getUpdatedAt() != null) {
+                ok.lastModified(student.getUpdatedAt());
+            }
+            return ok.body(student);
+        });
+    }
+
+    /**
+     * LISTAR TODOS
+     * GET /api/students
+     * El arreglo JSON se escribe elemento por elemento (no se arma la lista completa)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<StudentResponse> getAll(){
+        return studentService.streamAll();
+    }
+
+    /**
+     * LISTAR TODOS EN STREAMING (NDJSON)
+     * GET /api/students con Accept: application/x-ndjson
+     * @return 200 OK + un objeto JSON por linea
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StudentResponse> streamAll(){
+        return studentService.streamAll();
+    }
+
+    /**
+     * LISTAR POR PAGINAS (CURSOR)
+     * GET /api/students/cursor?cursor=...&size=50
+     * @return 200 OK + pagina de estudiantes y siguiente cursor (400 si el cursor no es valido)
+     */
+    @GetMapping("/cursor")
+    public Mono<StudentPage> getPage(@RequestParam(required = false) String cursor,
+                                     @RequestParam(required = false) Integer size){
+        return studentService.listPage(cursor, size);
+    }
+}
@@ -0,0 +1,123 @@
+package edu.espe.springlab.reactive.web.controller;
+
+import edu.espe.springlab.reactive.dto.StudentPage;
+import edu.espe.springlab.reactive.dto.StudentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class StudentControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient db;
+
+    private final AtomicLong ids = new AtomicLong(1_000);
+
+    // La API reactiva no escribe: las filas se insertan directo en la tabla
+    private long insert(String fullName, String email) {
+        long id = ids.incrementAndGet();
+        db.sql("insert into students (id, full_name, email, active, version, updated_at) "
+                        + "values (:id, :fullName, :email, true, 0, current_timestamp)")
+                .bind("id", id)
+                .bind("fullName", fullName)
+                .bind("email", email)
+                .then()
+                .block();
+        return id;
+    }
+
+    @Test
+    void shouldReadLikeTheServletApi() {
+        long id = insert("Reactive User", "reactive.user@example.com");
+
+        String etag = client.get().uri("/api/students/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.email").isEqualTo("reactive.user@example.com")
+                .jsonPath("$.active").isEqualTo(true)
+                .returnResult().getResponseHeaders().getETag();
+
+        client.get().uri("/api/students/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        client.get().uri("/api/students/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldRejectWrites() {
+        long id = insert("Read Only", "read.only@example.com");
+
+        client.post().uri("/api/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("fullName", "Reactive Copy", "email", "reactive.copy@example.com"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+
+        client.patch().uri("/api/students/{id}/deactivate", id)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldStreamStudentsOnDemand() {
+        for (int i = 0; i < 5; i++) {
+            insert("Stream User " + i, "stream" + i + "@reactive.dev");
+        }
+
+        Flux<StudentResponse> stream = client.get().uri("/api/students")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(StudentResponse.class)
+                .getResponseBody();
+
+        // El cliente pide los elementos por tandas (la demanda llega hasta el cursor de la BD)
+        StepVerifier.create(stream, 2)
+                .expectNextCount(2)
+                .thenRequest(3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldPageWithCursor() {
+        for (int i = 0; i < 3; i++) {
+            insert("Cursor User " + i, "cursor" + i + "@reactive.dev");
+        }
+
+        StudentPage first = client.get().uri("/api/students/cursor?size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(StudentPage.class)
+                .returnResult().getResponseBody();
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        client.get().uri("/api/students/cursor?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,11 @@
+create sequence if not exists students_seq start with 1 increment by 50;
+
+create table if not exists students (
+    id bigint primary key,
+    full_name varchar(120) not null,
+    email varchar(120) not null unique,
+    birth_date date,
+    active boolean not null,
+    version bigint not null default 0,
+    updated_at timestamp(6) with time zone
+);
@@ -0,0 +1,42 @@
+package edu.espe.springlab.bench;
+
+import edu.espe.springlab.SpringLabApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ARRANQUE DE LA APLICACIÓN PARA BENCHMARKS
+ * 
+ * Levanta el contexto de Spring sin servidor web contra una base H2
+ * en memoria (modo MySQL), con el log de SQL apagado para no medir
+ * la escritura en consola.
+ * 
+ * Cada benchmark puede agregar propiedades propias (ej: desactivar la caché).
+ */
+public final class BenchmarkApp {
+
+    private BenchmarkApp() {}
+
+    public static ConfigurableApplicationContext start(String name, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.root=WARN"));
+        properties.addAll(List.of(extraProperties));
+        // Se pasan como argumentos de línea de comandos para que tengan
+        // prioridad sobre application.yml
+        String[] args = properties.stream().map(p -> "--" + p).toArray(String[]::new);
+        return new SpringApplicationBuilder(SpringLabApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+}
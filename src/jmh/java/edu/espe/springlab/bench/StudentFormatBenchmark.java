@@ -0,0 +1,102 @@
+package edu.espe.springlab.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.web.json.StudentResponseSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * BENCHMARK - JSON vs CBOR vs Smile (con y sin gzip)
+ * 
+ * Serializa una lista de StudentResponse con el mismo builder de Jackson
+ * en cada formato y escribe a un stream que solo cuenta bytes.
+ * El tiempo lo mide JMH; los bytes en la red salen como contador
+ * auxiliar ("wireBytes" en los resultados): bytes de una serialización
+ * por hilo (el benchmark corre con un hilo).
+ * 
+ * PARÁMETROS:
+ * - format: json, cbor o smile
+ * - gzip: true = comprimir como lo haría server.compression
+ * - size: Elementos de la lista
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudentFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<StudentResponse> students;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(StudentResponse.class, new StudentResponseSerializer())
+                .build();
+        students = new ArrayList<>(size);
+        LocalDate base = LocalDate.of(1995, 1, 1);
+        Instant updatedAt = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < size; i++) {
+            students.add(new StudentResponse((long) i + 1, "Estudiante Número " + i, "student" + i + "@espe.edu.ec",
+                    base.plusDays(i % 3650), i % 10 != 0, (long) (i % 3), updatedAt.plusSeconds(i)));
+        }
+    }
+
+    // Contador auxiliar de JMH: se asigna (no se acumula), así informa los bytes de una serialización
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Wire {
+        public long wireBytes;
+    }
+
+    @Benchmark
+    public long serialize(Wire wire) throws IOException {
+        StudentSerializationBenchmark.CountingOutputStream counter = new StudentSerializationBenchmark.CountingOutputStream();
+        if (gzip) {
+            try (OutputStream out = new GZIPOutputStream(counter, 8192)) {
+                mapper.writeValue(out, students);
+            }
+        } else {
+            mapper.writeValue(counter, students);
+        }
+        wire.wireBytes = counter.count;
+        return counter.count;
+    }
+}
@@ -0,0 +1,76 @@
+package edu.espe.springlab.bench;
+
+import edu.espe.springlab.dto.StudentImportReport;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.service.StudentImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BENCHMARK - Throughput de INSERT en la importación masiva
+ * 
+ * Importa lotes de 1000 estudiantes a través de StudentImportService
+ * (persist + flush por lote). El resultado se expresa en filas/segundo.
+ * 
+ * PARÁMETROS:
+ * - jdbcBatchSize: hibernate.jdbc.batch_size
+ *   · 1  = un INSERT por viaje a la BD (equivale a lo que permitía IDENTITY)
+ *   · 50 = INSERT agrupados, posible con la secuencia por bloques
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StudentInsertBenchmark {
+
+    private static final int ROWS_PER_IMPORT = 1000;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private StudentImportService importService;
+
+    // Contador para generar emails únicos en cada importación
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("insert_" + jdbcBatchSize,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "app.students.import.batch-size=500");
+        importService = context.getBean(StudentImportService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_IMPORT)
+    public StudentImportReport importRows() {
+        List<StudentRequestData> rows = new ArrayList<>(ROWS_PER_IMPORT);
+        for (int i = 0; i < ROWS_PER_IMPORT; i++) {
+            long n = sequence.incrementAndGet();
+            rows.add(new StudentRequestData("Insert Student " + n, "insert" + n + "@bench.test", LocalDate.of(2000, 1, 1)));
+        }
+        return importService.importRows(rows);
+    }
+}
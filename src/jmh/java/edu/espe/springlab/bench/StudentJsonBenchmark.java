@@ -0,0 +1,108 @@
+package edu.espe.springlab.bench;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.export.ExportColumn;
+import edu.espe.springlab.service.export.StudentJsonWriter;
+import edu.espe.springlab.service.mapper.StudentMapper;
+import edu.espe.springlab.web.json.StudentResponseSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK - Costo por estudiante de mapear y escribir JSON
+ * 
+ * Escribe UN estudiante por operación sobre un JsonGenerator que vive
+ * todo el benchmark (a un stream que solo cuenta bytes), así el resultado
+ * del perfilador gc (gc.alloc.rate.norm) es lo asignado por respuesta.
+ * 
+ * CAMINOS:
+ * - beanSerializer: entidad → DTO + BeanSerializer de Jackson (reflexión)
+ * - customSerializer: entidad → DTO + StudentResponseSerializer (el de la aplicación)
+ * - rowWriter: fila del cursor escrita con StudentJsonWriter, sin DTO
+ *   (exportación y listado NDJSON)
+ * 
+ * Ejecutar: ./gradlew jmh -PjmhIncludes=StudentJson
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentJsonBenchmark {
+
+    private static final List<ExportColumn> ALL_COLUMNS = List.of(ExportColumn.values());
+
+    private Student student;
+    private Object[] row;
+    private StudentSerializationBenchmark.CountingOutputStream out;
+    private JsonGenerator gen;
+    private ObjectWriter beanWriter;
+    private ObjectWriter customWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        student = new Student();
+        student.setId(123L);
+        student.setFullName("José Andrés Núñez");
+        student.setEmail("jose.nunez@espe.edu.ec");
+        student.setBirthDate(LocalDate.of(2001, 3, 14));
+        student.setActive(true);
+        student.setVersion(2L);
+        student.setUpdatedAt(Instant.parse("2025-01-01T10:15:30.123456Z"));
+        row = new Object[] {student.getId(), student.getFullName(), student.getEmail(), student.getBirthDate(),
+                student.getActive(), student.getVersion(), student.getUpdatedAt()};
+
+        ObjectMapper beanMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper customMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(StudentResponse.class, new StudentResponseSerializer())
+                .build();
+        beanWriter = beanMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        customWriter = customMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        out = new StudentSerializationBenchmark.CountingOutputStream();
+        gen = customMapper.getFactory().createGenerator(out);
+        gen.setRootValueSeparator(null);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        gen.close();
+    }
+
+    @Benchmark
+    public long beanSerializer() throws IOException {
+        beanWriter.writeValue(gen, StudentMapper.toResponse(student));
+        return out.count;
+    }
+
+    @Benchmark
+    public long customSerializer() throws IOException {
+        customWriter.writeValue(gen, StudentMapper.toResponse(student));
+        return out.count;
+    }
+
+    @Benchmark
+    public long rowWriter() throws IOException {
+        StudentJsonWriter.writeRow(gen, row, ALL_COLUMNS);
+        return out.count;
+    }
+}
@@ -0,0 +1,97 @@
+package edu.espe.springlab.bench;
+
+import edu.espe.springlab.dto.StudentLookupRequest;
+import edu.espe.springlab.dto.StudentLookupResponse;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.StudentImportService;
+import edu.espe.springlab.service.StudentLookupService;
+import edu.espe.springlab.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK - N lecturas por id vs una lectura por lote
+ * 
+ * - singleGets: N llamadas a StudentService.getById (N consultas = N viajes a la BD)
+ * - batchLookup: Una llamada a StudentLookupService.lookup (N / 500 consultas IN)
+ * 
+ * La caché y la coalescencia están apagadas para que ambos caminos vayan
+ * siempre a la BD. Con H2 en memoria no hay red: contra MySQL cada viaje
+ * suma además la latencia de red, así que la diferencia real es mayor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentLookupBenchmark {
+
+    @Param({"10", "200", "1000"})
+    public int keys;
+
+    private ConfigurableApplicationContext context;
+    private StudentService service;
+    private StudentLookupService lookupService;
+    private List<Long> ids;
+    private StudentLookupRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("lookup_" + keys,
+                "app.cache.students.spec=maximumSize=0",
+                "app.students.coalesce-window-ms=0");
+        service = context.getBean(StudentService.class);
+        lookupService = context.getBean(StudentLookupService.class);
+
+        List<StudentRequestData> seed = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            seed.add(new StudentRequestData("Lookup Student " + i, "lookup" + i + "@bench.test", null));
+        }
+        context.getBean(StudentImportService.class).importRows(seed);
+
+        // Ids al azar (semilla fija), con algunos inexistentes
+        long[] all = service.list().stream().mapToLong(StudentResponse::id).toArray();
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new ArrayList<>(keys);
+        for (int i = 0; i < keys; i++) {
+            ids.add(i % 20 == 19 ? -i : all[random.nextInt(all.length)]);
+        }
+        request = new StudentLookupRequest();
+        request.setIds(ids);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleGets(Blackhole bh) {
+        for (Long id : ids) {
+            try {
+                bh.consume(service.getById(id));
+            } catch (RuntimeException notFound) {
+                bh.consume(notFound);
+            }
+        }
+    }
+
+    @Benchmark
+    public StudentLookupResponse batchLookup() {
+        return lookupService.lookup(request);
+    }
+}
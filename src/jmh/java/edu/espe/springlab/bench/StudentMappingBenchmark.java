@@ -0,0 +1,44 @@
+package edu.espe.springlab.bench;
+
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK - Mapeo entidad → DTO (StudentMapper.toResponse)
+ * 
+ * Mide el costo por fila de copiar un Student a StudentResponse.
+ * Con el perfilador gc se obtiene además los bytes asignados por operación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentMappingBenchmark {
+
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        student = new Student();
+        student.setId(123L);
+        student.setFullName("José Andrés Núñez");
+        student.setEmail("jose.nunez@espe.edu.ec");
+        student.setBirthDate(LocalDate.of(2001, 3, 14));
+        student.setActive(true);
+    }
+
+    @Benchmark
+    public StudentResponse toResponse() {
+        return StudentMapper.toResponse(student);
+    }
+}
@@ -0,0 +1,88 @@
+package edu.espe.springlab.bench;
+
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.StudentImportService;
+import edu.espe.springlab.service.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK - Lectura con entidades vs proyecciones
+ * 
+ * Compara, dentro de una transacción de solo lectura:
+ * - entity*: Cargar entidades Student administradas y mapearlas con StudentMapper
+ * - projection*: Consultas "select new StudentResponse(...)" del repositorio
+ * 
+ * Con el perfilador gc (configurado en build.gradle) se obtiene
+ * gc.alloc.rate.norm = bytes asignados por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentReadPathBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository repo;
+    private TransactionTemplate readOnly;
+    private Long someId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("readpath_" + rows);
+        repo = context.getBean(StudentRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<StudentRequestData> seed = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            seed.add(new StudentRequestData("Read Student " + i, "read" + i + "@bench.test", null));
+        }
+        context.getBean(StudentImportService.class).importRows(seed);
+        someId = repo.findAllResponses().get(rows / 2).id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentResponse> entityList() {
+        return readOnly.execute(status -> repo.findAll().stream().map(StudentMapper::toResponse).toList());
+    }
+
+    @Benchmark
+    public List<StudentResponse> projectionList() {
+        return readOnly.execute(status -> repo.findAllResponses());
+    }
+
+    @Benchmark
+    public StudentResponse entityById() {
+        return readOnly.execute(status -> repo.findById(someId).map(StudentMapper::toResponse).orElseThrow());
+    }
+
+    @Benchmark
+    public StudentResponse projectionById() {
+        return readOnly.execute(status -> repo.findResponseById(someId).orElseThrow());
+    }
+}
@@ -0,0 +1,80 @@
+package edu.espe.springlab.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.web.json.StudentResponseSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK - Serialización JSON de listas de StudentResponse
+ * 
+ * Usa un ObjectMapper configurado como el de la aplicación
+ * (write-dates-as-timestamps: false y StudentResponseSerializer) y escribe a un stream que solo
+ * cuenta bytes, para medir Jackson sin el costo de la red.
+ * 
+ * PARÁMETROS:
+ * - size: Elementos de la lista (1k, 100k y 1M)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudentSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<StudentResponse> students;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(StudentResponse.class, new StudentResponseSerializer())
+                .build();
+        students = new ArrayList<>(size);
+        LocalDate base = LocalDate.of(1995, 1, 1);
+        for (int i = 0; i < size; i++) {
+            students.add(new StudentResponse((long) i + 1, "Estudiante Número " + i, "student" + i + "@espe.edu.ec",
+                    base.plusDays(i % 3650), i % 10 != 0, null, null));
+        }
+    }
+
+    @Benchmark
+    public long serializeList() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        mapper.writeValue(out, students);
+        return out.count;
+    }
+
+    // Descarta los bytes y solo los cuenta (evita medir la copia a un arreglo)
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edu.espe.springlab.bench;
+
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.StudentImportService;
+import edu.espe.springlab.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BENCHMARK - StudentServiceImpl contra H2 embebido
+ * 
+ * Mide create / getById / list / deactivate a través del servicio real
+ * (proxies de Spring, caché, transacciones y Hibernate incluidos).
+ * 
+ * PARÁMETROS:
+ * - rows: Estudiantes precargados antes de medir
+ * - cache: true = caché de getById activa; false = tamaño 0 (siempre va a la BD)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StudentServiceBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private ConfigurableApplicationContext context;
+    private StudentService service;
+    private long[] ids;
+
+    // Contador para generar emails únicos en create()
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Semilla fija: la secuencia de ids consultados es reproducible
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String spec = cache ? "maximumSize=10000,recordStats" : "maximumSize=0";
+        context = BenchmarkApp.start("service_" + cache, "app.cache.students.spec=" + spec);
+        service = context.getBean(StudentService.class);
+
+        List<StudentRequestData> seed = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            seed.add(request("Seed Student " + i, "seed" + i + "@bench.test"));
+        }
+        context.getBean(StudentImportService.class).importRows(seed);
+        ids = service.list().stream().mapToLong(StudentResponse::id).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StudentResponse create() {
+        long n = sequence.incrementAndGet();
+        return service.create(request("Bench Student " + n, "bench" + n + "@bench.test"));
+    }
+
+    @Benchmark
+    public StudentResponse getById() {
+        return service.getById(randomId());
+    }
+
+    @Benchmark
+    public List<StudentResponse> list() {
+        return service.list();
+    }
+
+    @Benchmark
+    public StudentResponse deactivate() {
+        return service.deactivate(randomId());
+    }
+
+    private long randomId() {
+        synchronized (random) {
+            return ids[random.nextInt(ids.length)];
+        }
+    }
+
+    private static StudentRequestData request(String fullName, String email) {
+        return new StudentRequestData(fullName, email, LocalDate.of(2000, 1, 1));
+    }
+}
@@ -0,0 +1,211 @@
+package edu.espe.springlab.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LOG DE AUDITORÍA ASÍNCRONO (write-behind)
+ * 
+ * Registra cada mutación de estudiantes (StudentChangedEvent) sin agregar
+ * E/S al hilo de la petición.
+ * 
+ * FLUJO:
+ * 1. Después del COMMIT, el hilo de la petición solo encola el evento en
+ *    un MpscRingBuffer (sin bloqueos; si está lleno se descarta y se cuenta)
+ * 2. Un hilo escritor en segundo plano vacía el buffer en lotes,
+ *    asigna el número de secuencia y escribe en SegmentedAppendLog
+ * 3. Según la política (app.audit.fsync) hace fsync por lote, por
+ *    intervalo o nunca
+ * 
+ * Con el buffer vacío el escritor se duerme (park) hasta que un productor
+ * lo despierta (unpark, solo si está dormido). El timeout del park es un
+ * respaldo: el intervalo de fsync (política INTERVAL) o IDLE_PARK_NANOS.
+ * 
+ * CONFIGURACIÓN (app.audit.*):
+ * - enabled: Activa la auditoría (default: false)
+ * - directory: Carpeta de los segmentos
+ * - buffer-capacity: Tamaño del buffer (potencia de 2)
+ * - batch-size: Registros máximos por escritura
+ * - segment-bytes: Tamaño máximo de cada segmento
+ * - fsync / fsync-interval-ms: Política de durabilidad
+ * 
+ * La lectura/replay se expone en GET /api/audit (AuditController).
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.audit", name = "enabled", havingValue = "true")
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    // Espera máxima del escritor dormido (lo despierta el productor con unpark)
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // Evento pendiente de escribir (aún sin número de secuencia)
+    private record Pending(Instant timestamp, StudentChangedEvent event) {}
+
+    private final ObjectMapper objectMapper;
+    private final SegmentedAppendLog segments;
+    private final MpscRingBuffer<Pending> buffer;
+    private final int batchSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final long idleParkNanos;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+
+    private volatile boolean running = true;
+    // true mientras el escritor está (o va a estar) dormido en park
+    private volatile boolean idle;
+    private long lastFsyncNanos = System.nanoTime();
+
+    public AuditLog(ObjectMapper objectMapper,
+                    @Value("${app.audit.directory:audit}") Path directory,
+                    @Value("${app.audit.buffer-capacity:65536}") int bufferCapacity,
+                    @Value("${app.audit.batch-size:512}") int batchSize,
+                    @Value("${app.audit.segment-bytes:67108864}") long segmentBytes,
+                    @Value("${app.audit.fsync:INTERVAL}") FsyncPolicy fsyncPolicy,
+                    @Value("${app.audit.fsync-interval-ms:1000}") long fsyncIntervalMs) throws IOException {
+        this.objectMapper = objectMapper;
+        this.segments = new SegmentedAppendLog(directory, "audit", segmentBytes);
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+        this.idleParkNanos = fsyncPolicy == FsyncPolicy.INTERVAL
+                ? Math.min(IDLE_PARK_NANOS, fsyncIntervalNanos)
+                : IDLE_PARK_NANOS;
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Se ejecuta en el hilo de la petición después del COMMIT: solo encola
+     * el evento (una transacción revertida no se audita).
+     * Sin transacción activa (ej: create) se encola de inmediato.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (!buffer.offer(new Pending(Instant.now(), event))) {
+            dropped.increment();
+        } else if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * REPLAY
+     * @param since - Primera secuencia a devolver
+     * @param limit - Máximo de registros
+     */
+    public AuditPage read(long since, int limit) {
+        try {
+            List<AuditRecord> records = new ArrayList<>();
+            long next = since;
+            for (SegmentedAppendLog.Line line : segments.read(since, limit)) {
+                next = line.sequence() + 1;
+                try {
+                    records.add(objectMapper.readValue(line.payload(), AuditRecord.class));
+                } catch (JsonProcessingException e) {
+                    // Línea dañada (ej: escrita antes de una caída): se salta, no corta el replay
+                    log.warn("Registro de auditoria ilegible (sequence {}), se omite", line.sequence());
+                }
+            }
+            return new AuditPage(records, next);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Eventos descartados porque el buffer estaba lleno
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    // Eventos en el buffer esperando al escritor
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        segments.close();
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            try {
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    maybeFsync(false);
+                    park();
+                    continue;
+                }
+                writeBatch(batch);
+                maybeFsync(true);
+            } catch (Exception e) {
+                log.error("No se pudo escribir el lote de auditoria ({} registros)", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Se marca dormido y vuelve a mirar el buffer antes del park: un evento
+    // encolado antes de ver idle = true ya está visible en size()
+    private void park() {
+        idle = true;
+        if (running && buffer.size() == 0) {
+            LockSupport.parkNanos(idleParkNanos);
+        }
+        idle = false;
+    }
+
+    private void writeBatch(List<Pending> batch) throws IOException {
+        List<SegmentedAppendLog.Line> lines = new ArrayList<>(batch.size());
+        long sequence = segments.lastSequence();
+        for (Pending pending : batch) {
+            sequence++;
+            StudentResponse student = pending.event().student();
+            AuditRecord record = new AuditRecord(sequence, pending.timestamp(), pending.event().type().name(),
+                    student.id(), student.email(), student.active(), pending.event().previousActive());
+            lines.add(new SegmentedAppendLog.Line(sequence, objectMapper.writeValueAsString(record)));
+        }
+        segments.append(lines);
+    }
+
+    private void maybeFsync(boolean wroteBatch) throws IOException {
+        long now = System.nanoTime();
+        boolean due = switch (fsyncPolicy) {
+            case NEVER -> false;
+            case BATCH -> wroteBatch;
+            case INTERVAL -> now - lastFsyncNanos >= fsyncIntervalNanos;
+        };
+        if (due) {
+            segments.force();
+            lastFsyncNanos = now;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package edu.espe.springlab.audit;
+
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Página del log de auditoría
+ * 
+ * - records: Registros con sequence >= since, en orden
+ * - nextSince: Valor de 'since' para pedir la página siguiente
+ */
+public record AuditPage(List<AuditRecord> records, long nextSince) {}
@@ -0,0 +1,22 @@
+package edu.espe.springlab.audit;
+
+import java.time.Instant;
+
+/**
+ * REGISTRO DE AUDITORÍA
+ * 
+ * Una línea del log por cada mutación de un estudiante.
+ * - sequence: Número correlativo (único y creciente, sobrevive reinicios)
+ * - timestamp: Momento en que ocurrió el cambio
+ * - type: CREATED o UPDATED
+ * - studentId / email / active: Estado después del cambio
+ * - previousActive: Estado 'active' anterior (null en CREATED)
+ */
+public record AuditRecord(
+        long sequence,
+        Instant timestamp,
+        String type,
+        Long studentId,
+        String email,
+        Boolean active,
+        Boolean previousActive) {}
@@ -0,0 +1,10 @@
+package edu.espe.springlab.audit;
+
+/**
+ * POLÍTICA DE FSYNC DEL LOG DE AUDITORÍA
+ * 
+ * - NEVER: El sistema operativo decide cuándo bajar a disco (más rápido)
+ * - BATCH: fsync después de cada lote escrito (más durable)
+ * - INTERVAL: fsync como máximo cada app.audit.fsync-interval-ms
+ */
+public enum FsyncPolicy { NEVER, BATCH, INTERVAL }
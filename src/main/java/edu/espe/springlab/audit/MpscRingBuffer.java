@@ -0,0 +1,67 @@
+package edu.espe.springlab.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * BUFFER CIRCULAR ACOTADO SIN BLOQUEOS (varios productores, un consumidor)
+ * 
+ * - offer(): Los hilos de las peticiones reservan una posición con CAS
+ *   sobre 'tail' y publican el elemento. Si el buffer está lleno
+ *   devuelve false de inmediato (nunca bloquea).
+ * - drainTo(): Solo lo llama el hilo escritor; toma elementos en orden
+ *   y libera sus posiciones avanzando 'head'.
+ * 
+ * Una posición reservada pero aún no publicada se ve como null: el
+ * consumidor se detiene ahí y la toma en la siguiente vuelta.
+ */
+final class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    MpscRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de 2: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    boolean offer(T item) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head.get() >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        slots.lazySet((int) (t & mask), item);
+        return true;
+    }
+
+    int drainTo(List<T> target, int max) {
+        long h = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (h & mask);
+            T item = slots.get(index);
+            if (item == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(item);
+            h++;
+            drained++;
+        }
+        head.lazySet(h);
+        return drained;
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
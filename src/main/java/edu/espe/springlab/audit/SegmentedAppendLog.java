@@ -0,0 +1,234 @@
+package edu.espe.springlab.audit;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * LOG LOCAL SOLO-APPEND DIVIDIDO EN SEGMENTOS
+ * 
+ * Cada línea tiene el formato: <sequence>\t<payload>\n
+ * Los archivos se llaman <prefijo>-<primera sequence con 20 dígitos>.log,
+ * así el orden alfabético coincide con el orden de las secuencias.
+ * 
+ * - Escritura: Un solo hilo escritor llama a append() con lotes de líneas;
+ *   cada lote se escribe con una sola llamada al FileChannel por segmento.
+ *   Cuando un segmento supera maxSegmentBytes se abre uno nuevo.
+ * - Lectura: read() puede llamarse desde cualquier hilo; una línea sin
+ *   salto final (a medio escribir) o con una secuencia ilegible se ignora.
+ * - Reinicio: Al abrir, recorta del último segmento la línea incompleta
+ *   que pudo dejar una caída (todo lo posterior al último salto de línea)
+ *   y continúa la numeración desde la última línea completa.
+ * - Retención: retain() borra los segmentos más antiguos (nunca el actual).
+ */
+public class SegmentedAppendLog implements Closeable {
+
+    private static final String SUFFIX = ".log";
+
+    // Línea del log: número de secuencia + contenido (sin saltos de línea)
+    public record Line(long sequence, String payload) {}
+
+    private final Path directory;
+    private final String prefix;
+    private final long maxSegmentBytes;
+
+    private FileChannel channel;
+    private long segmentSize;
+    private volatile long lastSequence;
+
+    public SegmentedAppendLog(Path directory, String prefix, long maxSegmentBytes) throws IOException {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.maxSegmentBytes = maxSegmentBytes;
+        Files.createDirectories(directory);
+
+        List<Path> segments = segments();
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            channel = FileChannel.open(last, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            // Sin esto, el próximo append quedaría pegado a la línea incompleta
+            long complete = endOfLastLine(last);
+            if (channel.size() > complete) {
+                channel.truncate(complete);
+                channel.force(false);
+            }
+            segmentSize = channel.size();
+            lastSequence = firstSequence(last) - 1;
+            for (Line line : readSegment(last, Long.MIN_VALUE, Integer.MAX_VALUE)) {
+                lastSequence = line.sequence();
+            }
+        }
+    }
+
+    // Última secuencia escrita (0 si el log está vacío)
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Agrega un lote de líneas (las secuencias deben ser crecientes).
+     * Solo debe llamarse desde el hilo escritor.
+     */
+    public void append(List<Line> lines) throws IOException {
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        for (Line line : lines) {
+            if (channel == null || segmentSize + pending.size() >= maxSegmentBytes) {
+                writePending(pending);
+                roll(line.sequence());
+            }
+            pending.writeBytes((line.sequence() + "\t" + line.payload() + "\n").getBytes(StandardCharsets.UTF_8));
+            lastSequence = line.sequence();
+        }
+        writePending(pending);
+    }
+
+    // Fuerza a disco lo escrito en el segmento actual (fsync)
+    public void force() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Lee hasta 'limit' líneas con sequence >= fromSequence, en orden.
+     */
+    public List<Line> read(long fromSequence, int limit) throws IOException {
+        List<Path> segments = segments();
+        int start = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            if (firstSequence(segments.get(i)) <= fromSequence) {
+                start = i;
+            }
+        }
+        List<Line> result = new ArrayList<>();
+        for (int i = start; i < segments.size() && result.size() < limit; i++) {
+            result.addAll(readSegment(segments.get(i), fromSequence, limit - result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Conserva solo los últimos 'keep' segmentos y borra el resto.
+     * Solo debe llamarse desde el hilo escritor.
+     * @return Cantidad de segmentos borrados
+     */
+    public int retain(int keep) throws IOException {
+        List<Path> segments = segments();
+        int deleted = 0;
+        for (int i = 0; i < segments.size() - Math.max(keep, 1); i++) {
+            if (Files.deleteIfExists(segments.get(i))) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void writePending(ByteArrayOutputStream pending) throws IOException {
+        if (pending.size() == 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(pending.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        segmentSize += pending.size();
+        pending.reset();
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        close();
+        Path segment = directory.resolve(String.format("%s-%020d%s", prefix, firstSequence, SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentSize = channel.size();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(prefix + "-") && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // Posición siguiente al último '\n' del archivo (0 si no tiene ninguno)
+    private static long endOfLastLine(Path segment) throws IOException {
+        try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long end = in.size();
+            while (end > 0) {
+                long start = Math.max(0, end - buffer.capacity());
+                buffer.clear().limit((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    if (in.read(buffer, start + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                for (int i = buffer.position() - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n') {
+                        return start + i + 1;
+                    }
+                }
+                end = start;
+            }
+            return 0;
+        }
+    }
+
+    private long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length() + 1, name.length() - SUFFIX.length()));
+    }
+
+    private static List<Line> readSegment(Path segment, long fromSequence, int limit) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segment))) {
+            ByteArrayOutputStream current = new ByteArrayOutputStream();
+            int b;
+            while (lines.size() < limit && (b = in.read()) != -1) {
+                if (b != '\n') {
+                    current.write(b);
+                    continue;
+                }
+                String text = current.toString(StandardCharsets.UTF_8);
+                current.reset();
+                int tab = text.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                long sequence;
+                try {
+                    sequence = Long.parseLong(text.substring(0, tab));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (sequence >= fromSequence) {
+                    lines.add(new Line(sequence, text.substring(tab + 1)));
+                }
+            }
+        }
+        return lines;
+    }
+}
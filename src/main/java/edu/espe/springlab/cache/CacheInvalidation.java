@@ -0,0 +1,9 @@
+package edu.espe.springlab.cache;
+
+/**
+ * MENSAJE DE INVALIDACIÓN ENTRE NODOS
+ * 
+ * - origin: Nodo que confirmó el cambio (app.cache.invalidation.node-id)
+ * - studentId: Estudiante modificado (null = desalojar todos)
+ */
+public record CacheInvalidation(String origin, Long studentId) {}
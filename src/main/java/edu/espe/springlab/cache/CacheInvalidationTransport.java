@@ -0,0 +1,30 @@
+package edu.espe.springlab.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * TRANSPORTE DE INVALIDACIONES DE CACHÉ
+ * 
+ * Punto de extensión para desplegar varios nodos: cada nodo publica los
+ * cambios que confirma y recibe los de los demás. La implementación por
+ * defecto (LocalCacheInvalidationTransport) entrega los mensajes dentro del
+ * mismo proceso; un despliegue real registra su propio bean (Redis pub/sub,
+ * JGroups, un tópico de Kafka, ...) y SecondLevelCacheConfig deja de crear
+ * el local.
+ * 
+ * El transporte puede entregar también los mensajes propios; quien recibe
+ * los descarta comparando el origen.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Envía la invalidación a todos los nodos suscritos.
+     * No debe bloquear la petición que confirmó el cambio.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registra un receptor de invalidaciones.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,30 @@
+package edu.espe.springlab.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * TRANSPORTE DE INVALIDACIONES EN MEMORIA
+ * 
+ * Entrega cada mensaje, en el mismo hilo, a todos los receptores del
+ * proceso. Con un solo nodo no hay a quién avisar; en los tests varios
+ * StudentCacheInvalidator con distinto node-id comparten una instancia
+ * y se comportan como nodos separados.
+ */
+public class LocalCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,108 @@
+package edu.espe.springlab.cache;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * INVALIDACIÓN DE CACHÉS ENTRE NODOS
+ * 
+ * En este nodo Hibernate y CacheConfig ya quedan al día con cada escritura.
+ * Los demás nodos no se enteran: este componente publica cada cambio
+ * confirmado (StudentChangedEvent, después del COMMIT) en el
+ * CacheInvalidationTransport y, al recibir el de otro nodo, desaloja:
+ * - La entidad Student de la región "students" (cache de segundo nivel)
+ * - Los resultados de consultas cacheables (la tabla de invalidación de
+ *   Hibernate es local y no ve las escrituras de otros nodos)
+ * - La entrada de la caché "students" de StudentResponse por id
+ * 
+ * Los mensajes propios se ignoran (mismo origen).
+ * 
+ * LIMITACIÓN: El evento no trae el email anterior; si se habilita la
+ * actualización completa (examen #1) hay que desalojar también la región
+ * "students-natural-id" (evictNaturalIdData) al cambiar un email.
+ */
+@Component
+public class StudentCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentCacheInvalidator.class);
+
+    private final String nodeId;
+    private final CacheInvalidationTransport transport;
+    private final org.hibernate.Cache secondLevelCache;
+    private final CacheManager cacheManager;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+
+    public StudentCacheInvalidator(@Value("${app.cache.invalidation.node-id:${random.uuid}}") String nodeId,
+                                   CacheInvalidationTransport transport,
+                                   EntityManagerFactory entityManagerFactory,
+                                   CacheManager cacheManager) {
+        this.nodeId = nodeId;
+        this.transport = transport;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.cacheManager = cacheManager;
+        transport.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Avisa a los demás nodos; sin transacción activa (ej: create) se publica de inmediato.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        try {
+            transport.publish(new CacheInvalidation(nodeId, event.student().id()));
+            published.increment();
+        } catch (RuntimeException ex) {
+            // El cambio ya está confirmado: un fallo del transporte no se propaga al cliente
+            log.warn("No se pudo publicar la invalidacion del estudiante {}", event.student().id(), ex);
+        }
+    }
+
+    /**
+     * Desaloja lo que el cambio de otro nodo dejó desactualizado.
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        received.increment();
+        Cache students = cacheManager.getCache(CacheConfig.STUDENTS_CACHE);
+        if (invalidation.studentId() == null) {
+            secondLevelCache.evictEntityData(Student.class);
+            if (students != null) {
+                students.clear();
+            }
+        } else {
+            secondLevelCache.evictEntityData(Student.class, invalidation.studentId());
+            if (students != null) {
+                students.evict(invalidation.studentId());
+            }
+        }
+        secondLevelCache.evictDefaultQueryRegion();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+}
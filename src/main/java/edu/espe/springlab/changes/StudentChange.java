@@ -0,0 +1,21 @@
+package edu.espe.springlab.changes;
+
+import edu.espe.springlab.dto.StudentResponse;
+
+import java.time.Instant;
+
+/**
+ * CAMBIO DE UN ESTUDIANTE (FEED DE CAMBIOS)
+ * 
+ * - sequence: Número correlativo del feed (único y creciente, sobrevive reinicios)
+ * - timestamp: Momento en que se confirmó el cambio
+ * - type: CREATED o UPDATED
+ * - student: Estado completo del estudiante después del cambio
+ * - previousActive: Estado 'active' anterior (null en CREATED)
+ */
+public record StudentChange(
+        long sequence,
+        Instant timestamp,
+        String type,
+        StudentResponse student,
+        Boolean previousActive) {}
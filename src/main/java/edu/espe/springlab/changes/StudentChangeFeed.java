@@ -0,0 +1,351 @@
+package edu.espe.springlab.changes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.espe.springlab.audit.SegmentedAppendLog;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FEED DE CAMBIOS DE ESTUDIANTES (CHANGE DATA CAPTURE)
+ * 
+ * Los consumidores que antes releían GET /api/students para detectar
+ * cambios piden solo los cambios desde una secuencia.
+ * 
+ * FUNCIONAMIENTO:
+ * 1. Cada StudentChangedEvent confirmado (@TransactionalEventListener,
+ *    después del COMMIT) recibe un número de secuencia y se guarda en un
+ *    buffer circular en memoria (app.students.changes.ring-capacity)
+ * 2. Un hilo en segundo plano copia el buffer a un log local solo-append
+ *    (SegmentedAppendLog): la numeración sobrevive reinicios y los
+ *    consumidores atrasados leen desde disco lo que ya salió de memoria
+ * 3. Los consumidores leen con read() (página desde 'since'), esperan con
+ *    poll() (long-poll) o se registran con addListener() (SSE)
+ * 
+ * ESPERAS SIN HILOS:
+ * poll() devuelve un CompletableFuture; el que espera no ocupa un hilo ni
+ * una conexión a la BD. Cada cambio completa todas las esperas pendientes.
+ * 
+ * REINICIO TRAS UNA CAÍDA:
+ * El log se escribe en segundo plano y con fsync cada segundo, así que una
+ * caída puede perder secuencias que ya se entregaron a consumidores. Para
+ * no reutilizarlas, el feed deja un marcador (changes.running) mientras
+ * está abierto y lo borra al cerrarse bien. Si al arrancar el marcador
+ * sigue ahí, la numeración salta a la siguiente generación (los 32 bits
+ * altos de la secuencia): quien continúe con un 'since' de antes de la
+ * caída recibe gap = true en lugar de saltarse cambios.
+ * 
+ * LÍMITES:
+ * - Si el hilo del log se atrasa más que el buffer, esos cambios no llegan
+ *   a disco (se cuentan en spillDropped); un consumidor que los pida
+ *   recibe gap = true
+ * - Se conservan los últimos app.students.changes.keep-segments segmentos
+ */
+@Component
+public class StudentChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentChangeFeed.class);
+
+    // Espera del hilo del log cuando no hay cambios nuevos
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FSYNC_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RETAIN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SPILL_BATCH = 512;
+
+    // Marcador de feed abierto: si existe al arrancar, el cierre anterior no fue limpio
+    static final String RUNNING_MARKER = "changes.running";
+    // Bits bajos de la secuencia dentro de una generación
+    private static final int GENERATION_SHIFT = 32;
+
+    // Long-poll pendiente
+    private record Waiter(long since, int limit, CompletableFuture<StudentChangePage> result) {}
+
+    private final ObjectMapper objectMapper;
+    private final SegmentedAppendLog spill;
+    private final Path runningMarker;
+    private final AtomicReferenceArray<StudentChange> ring;
+    private final int mask;
+    private final int keepSegments;
+
+    // Primera secuencia asignada por este proceso (las anteriores solo están en disco)
+    private final long firstInMemory;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder spillDropped = new LongAdder();
+    private final Thread spillWriter;
+
+    private volatile long lastSequence;
+    private volatile long spilledSequence;
+    private volatile boolean running = true;
+
+    public StudentChangeFeed(ObjectMapper objectMapper,
+                             @Value("${app.students.changes.directory:changes}") Path directory,
+                             @Value("${app.students.changes.ring-capacity:65536}") int ringCapacity,
+                             @Value("${app.students.changes.segment-bytes:67108864}") long segmentBytes,
+                             @Value("${app.students.changes.keep-segments:16}") int keepSegments) throws IOException {
+        if (Integer.bitCount(ringCapacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de 2: " + ringCapacity);
+        }
+        this.objectMapper = objectMapper;
+        this.spill = new SegmentedAppendLog(directory, "changes", segmentBytes);
+        this.ring = new AtomicReferenceArray<>(ringCapacity);
+        this.mask = ringCapacity - 1;
+        this.keepSegments = keepSegments;
+        this.runningMarker = directory.resolve(RUNNING_MARKER);
+        if (Files.exists(runningMarker)) {
+            // Caída: lo entregado después del último fsync pudo perderse
+            this.lastSequence = nextGeneration(spill.lastSequence());
+            log.warn("El feed de cambios no se cerro correctamente; la numeracion continua desde {}", lastSequence + 1);
+        } else {
+            this.lastSequence = spill.lastSequence();
+            Files.createFile(runningMarker);
+        }
+        this.spilledSequence = lastSequence;
+        this.firstInMemory = lastSequence + 1;
+        this.spillWriter = new Thread(this::spillLoop, "student-changes-spill");
+        this.spillWriter.setDaemon(true);
+        this.spillWriter.start();
+    }
+
+    // ==================== ESCRITURA ====================
+
+    /**
+     * Agrega un cambio confirmado al feed.
+     * Sin transacción activa (ej: create) se aplica de inmediato.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        appendLock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            ring.set((int) (sequence & mask), new StudentChange(sequence, Instant.now(), event.type().name(),
+                    event.student(), event.previousActive()));
+            lastSequence = sequence;
+        } finally {
+            appendLock.unlock();
+        }
+        LockSupport.unpark(spillWriter);
+        wakeWaiters();
+        listeners.forEach(Runnable::run);
+    }
+
+    // ==================== LECTURA ====================
+
+    /**
+     * Página de cambios con sequence >= since (memoria y, si hace falta, disco).
+     * @param since - Primera secuencia pedida
+     * @param limit - Máximo de cambios
+     */
+    public StudentChangePage read(long since, int limit) {
+        long requested = Math.max(since, 1);
+        long last = lastSequence;
+        if (requested > last) {
+            return new StudentChangePage(List.of(), requested, false);
+        }
+
+        // 1. Lo que ya salió de memoria se lee del log
+        long from = requested;
+        List<StudentChange> changes = new ArrayList<>();
+        if (inMemory(from) == null) {
+            changes.addAll(readSpill(from, limit));
+            if (!changes.isEmpty()) {
+                from = changes.get(changes.size() - 1).sequence() + 1;
+            } else if (from < oldestInMemory(last)) {
+                from = oldestInMemory(last);
+            }
+        }
+
+        // 2. El resto desde el buffer en memoria
+        while (changes.size() < limit && from <= last) {
+            StudentChange change = inMemory(from);
+            if (change == null) {
+                break;
+            }
+            changes.add(change);
+            from++;
+        }
+
+        long first = changes.isEmpty() ? from : changes.get(0).sequence();
+        return new StudentChangePage(changes, from, first > requested);
+    }
+
+    /**
+     * LONG-POLL
+     * Si ya hay cambios desde 'since' se responde de inmediato; si no, el
+     * resultado se completa con el próximo cambio o, al vencer la espera,
+     * con una página vacía.
+     */
+    public CompletableFuture<StudentChangePage> poll(long since, int limit, long waitMillis) {
+        long requested = Math.max(since, 1);
+        if (requested <= lastSequence || waitMillis <= 0) {
+            return CompletableFuture.completedFuture(read(requested, limit));
+        }
+        Waiter waiter = new Waiter(requested, limit, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.result().whenComplete((page, ex) -> waiters.remove(waiter));
+        // Un cambio pudo llegar entre la verificación y el registro
+        if (requested <= lastSequence) {
+            waiter.result().complete(read(requested, limit));
+        }
+        return waiter.result()
+                .completeOnTimeout(new StudentChangePage(List.of(), requested, false), waitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Se ejecuta después de cada cambio (en el hilo que lo confirmó); debe ser rápido
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    // Última secuencia asignada (0 si el feed está vacío)
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    // Última secuencia escrita en disco
+    public long getSpilledSequence() {
+        return spilledSequence;
+    }
+
+    // Cambios que salieron del buffer antes de llegar a disco
+    public long getSpillDropped() {
+        return spillDropped.sum();
+    }
+
+    // Long-polls esperando cambios
+    public int getWaiting() {
+        return waiters.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        LockSupport.unpark(spillWriter);
+        spillWriter.join(TimeUnit.SECONDS.toMillis(5));
+        spill.close();
+        // Todo quedó en disco: el próximo arranque continúa la numeración
+        if (spilledSequence >= lastSequence) {
+            Files.deleteIfExists(runningMarker);
+        }
+    }
+
+    // ==================== INTERNOS ====================
+
+    private void wakeWaiters() {
+        for (Waiter waiter : waiters) {
+            if (waiter.since() <= lastSequence && !waiter.result().isDone()) {
+                waiter.result().complete(read(waiter.since(), waiter.limit()));
+            }
+        }
+    }
+
+    // Cambio con esa secuencia si sigue en el buffer (null si ya fue reemplazado)
+    private StudentChange inMemory(long sequence) {
+        if (sequence < firstInMemory) {
+            return null;
+        }
+        StudentChange change = ring.get((int) (sequence & mask));
+        return change != null && change.sequence() == sequence ? change : null;
+    }
+
+    // Inicio de la generación siguiente (la primera secuencia nueva es este valor + 1)
+    static long nextGeneration(long sequence) {
+        return ((sequence >>> GENERATION_SHIFT) + 1) << GENERATION_SHIFT;
+    }
+
+    private long oldestInMemory(long last) {
+        return Math.max(firstInMemory, last - ring.length() + 1);
+    }
+
+    private List<StudentChange> readSpill(long from, int limit) {
+        if (from > spilledSequence) {
+            return List.of();
+        }
+        try {
+            List<StudentChange> changes = new ArrayList<>();
+            for (SegmentedAppendLog.Line line : spill.read(from, limit)) {
+                try {
+                    changes.add(objectMapper.readValue(line.payload(), StudentChange.class));
+                } catch (JsonProcessingException e) {
+                    // Línea dañada (ej: escrita antes de una caída): se omite
+                    log.warn("Cambio ilegible en el log (sequence {}), se omite", line.sequence());
+                }
+            }
+            return changes;
+        } catch (IOException e) {
+            // Un segmento borrado por la retención mientras se leía: se trata como gap
+            log.debug("No se pudo leer el log de cambios desde {}", from, e);
+            return List.of();
+        }
+    }
+
+    private void spillLoop() {
+        List<SegmentedAppendLog.Line> batch = new ArrayList<>(SPILL_BATCH);
+        long lastFsync = System.nanoTime();
+        long lastRetain = System.nanoTime();
+        while (running || spilledSequence < lastSequence) {
+            try {
+                long last = lastSequence;
+                long next = spilledSequence + 1;
+                while (next <= last && batch.size() < SPILL_BATCH) {
+                    StudentChange change = inMemory(next);
+                    if (change == null) {
+                        long oldest = oldestInMemory(last);
+                        if (oldest <= next) {
+                            break;
+                        }
+                        spillDropped.add(oldest - next);
+                        next = oldest;
+                        continue;
+                    }
+                    batch.add(new SegmentedAppendLog.Line(next, objectMapper.writeValueAsString(change)));
+                    next++;
+                }
+                if (!batch.isEmpty()) {
+                    spill.append(batch);
+                }
+                spilledSequence = next - 1;
+
+                long now = System.nanoTime();
+                if (now - lastFsync >= FSYNC_INTERVAL_NANOS) {
+                    spill.force();
+                    lastFsync = now;
+                }
+                if (now - lastRetain >= RETAIN_INTERVAL_NANOS) {
+                    spill.retain(keepSegments);
+                    lastRetain = now;
+                }
+                if (batch.isEmpty() && running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (Exception e) {
+                log.error("No se pudo escribir el log de cambios ({} registros)", batch.size(), e);
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
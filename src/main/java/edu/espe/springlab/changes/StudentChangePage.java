@@ -0,0 +1,14 @@
+package edu.espe.springlab.changes;
+
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Página del feed de cambios
+ * 
+ * - changes: Cambios con sequence >= since, en orden
+ * - nextSince: Valor de 'since' para pedir la página siguiente
+ * - gap: true si faltan cambios entre 'since' y el primero devuelto
+ *   (ya no están en memoria ni en disco); el cliente debe volver a
+ *   leer la colección completa
+ */
+public record StudentChangePage(List<StudentChange> changes, long nextSince, boolean gap) {}
@@ -0,0 +1,238 @@
+package edu.espe.springlab.changes;
+
+import edu.espe.springlab.web.advice.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SUSCRIPTORES SSE DEL FEED DE CAMBIOS
+ *
+ * Cada suscriptor es solo un SseEmitter y la última secuencia que recibió;
+ * no tiene un hilo de plataforma ni una cola propia.
+ *
+ * ENVÍO:
+ * 1. Cada cambio del feed programa UN barrido
+ * 2. El barrido lanza un envío por cada suscriptor atrasado; como máximo
+ *    hay un envío (o heartbeat) en curso por suscriptor
+ * 3. El envío lee del feed desde la secuencia del suscriptor y escribe los
+ *    cambios como eventos SSE (id = sequence, event = CREATED / UPDATED)
+ *
+ * Cada envío corre en su propio hilo virtual: un cliente que no lee
+ * (ventana TCP llena) solo bloquea su envío, no el de los demás. Cuando
+ * vuelve a aceptar datos sigue leyendo del feed (memoria o disco); si
+ * perdió cambios recibe un evento "gap" y debe releer la colección. Un
+ * envío bloqueado más de app.students.changes.send-timeout-ms desconecta
+ * al suscriptor (se revisa en cada heartbeat).
+ *
+ * Cada app.students.changes.heartbeat-ms se envía un comentario para que
+ * proxies y clientes no cierren la conexión y para detectar desconexiones.
+ */
+@Component
+public class StudentChangeStreams {
+
+    // Cambios por evento SSE escritos en una pasada antes de revisar a otros suscriptores
+    private static final int SEND_BATCH = 256;
+
+    private final StudentChangeFeed feed;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService dispatcher = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("student-changes-sse-", 1).factory());
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean sweepScheduled = new AtomicBoolean();
+
+    public StudentChangeStreams(StudentChangeFeed feed,
+                                @Value("${app.students.changes.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${app.students.changes.sse-timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${app.students.changes.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.feed = feed;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        feed.addListener(this::scheduleSweep);
+    }
+
+    /**
+     * Suscriptor: emitter + última secuencia enviada.
+     * 'sending' serializa envíos y heartbeats del mismo emitter.
+     */
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile long sendingSince;
+        volatile long lastSent;
+
+        Subscriber(SseEmitter emitter, long lastSent) {
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+
+        boolean tryStartSending() {
+            if (!sending.compareAndSet(false, true)) {
+                return false;
+            }
+            sendingSince = System.nanoTime();
+            return true;
+        }
+
+        // Envío en curso desde hace más que el límite (cliente que no lee)
+        boolean stalled(long now) {
+            return sending.get() && now - sendingSince > sendTimeoutNanos;
+        }
+    }
+
+    /**
+     * SUSCRIBIR
+     * @param since - Primera secuencia a enviar (null = solo cambios nuevos)
+     * @throws ServiceUnavailableException si se alcanzó el máximo de suscriptores
+     */
+    public SseEmitter subscribe(Long since) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Demasiados suscriptores al feed de cambios, intente mas tarde", 5);
+        }
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        long lastSent = since == null ? feed.getLastSequence() : Math.max(since, 1) - 1;
+        Subscriber subscriber = new Subscriber(emitter, lastSent);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        // Cambios pendientes desde 'since' (si los hay)
+        schedule(subscriber);
+        return emitter;
+    }
+
+    // Punto de extensión para las pruebas
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * HEARTBEAT
+     * Desconecta a los suscriptores con un envío bloqueado y envía un
+     * comentario a los que no tienen un envío en curso.
+     */
+    @Scheduled(fixedDelayString = "${app.students.changes.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.stalled(now)) {
+                // Deja de recibir envíos ya; el cierre espera al envío bloqueado en su propio hilo
+                subscribers.remove(subscriber);
+                try {
+                    dispatcher.execute(() -> close(subscriber));
+                } catch (RejectedExecutionException e) {
+                    return;
+                }
+            } else if (subscriber.tryStartSending()) {
+                execute(subscriber, () -> {
+                    try {
+                        subscriber.emitter.send(SseEmitter.event().comment("ping"));
+                    } catch (IOException | IllegalStateException e) {
+                        close(subscriber);
+                    } finally {
+                        subscriber.sending.set(false);
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    // ==================== ENVÍO ====================
+
+    // Se llama en el hilo que confirmó el cambio: solo programa un barrido
+    private void scheduleSweep() {
+        if (sweepScheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::sweep);
+            } catch (RejectedExecutionException e) {
+                sweepScheduled.set(false);
+            }
+        }
+    }
+
+    private void sweep() {
+        sweepScheduled.set(false);
+        long last = feed.getLastSequence();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.lastSent < last) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.tryStartSending()) {
+            execute(subscriber, () -> send(subscriber));
+        }
+    }
+
+    // Ejecuta en un hilo virtual una tarea que ya tomó 'sending'
+    private void execute(Subscriber subscriber, Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        long before = subscriber.lastSent;
+        long lastAtRead = feed.getLastSequence();
+        try {
+            StudentChangePage page = feed.read(before + 1, SEND_BATCH);
+            if (page.gap()) {
+                subscriber.emitter.send(SseEmitter.event().name("gap")
+                        .data(Map.of("since", before + 1, "nextSince", page.nextSince())));
+            }
+            for (StudentChange change : page.changes()) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(change.sequence()))
+                        .name(change.type())
+                        .data(change, MediaType.APPLICATION_JSON));
+            }
+            subscriber.lastSent = page.nextSince() - 1;
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+            return;
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // Quedan cambios: el lote no alcanzó o llegaron otros mientras se enviaba
+        boolean progressed = subscriber.lastSent > before;
+        if ((progressed && subscriber.lastSent < lastAtRead) || feed.getLastSequence() > lastAtRead) {
+            schedule(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(new IOException("Suscriptor desconectado"));
+    }
+}
@@ -0,0 +1,36 @@
+package edu.espe.springlab.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CONFIGURACIÓN DE CACHÉ EN MEMORIA (Caffeine)
+ * 
+ * Cachés definidas:
+ * - students: StudentResponse por id (lectura de GET /api/students/{id})
+ * 
+ * La especificación se configura con app.cache.students.spec, por ejemplo:
+ * maximumSize=10000,expireAfterWrite=10m,recordStats
+ * 
+ * - maximumSize: Límite de entradas (desalojo por tamaño)
+ * - expireAfterWrite: Tiempo de vida de cada entrada
+ * - recordStats: Habilita los contadores de aciertos/fallos/desalojos
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDENTS_CACHE = "students";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.students.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager manager = new CaffeineCacheManager(STUDENTS_CACHE);
+        manager.setCacheSpecification(spec);
+        return manager;
+    }
+}
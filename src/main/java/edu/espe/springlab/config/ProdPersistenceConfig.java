@@ -0,0 +1,38 @@
+package edu.espe.springlab.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * CONFIGURACIÓN DE HIBERNATE PARA PRODUCCIÓN (perfil "prod")
+ * 
+ * Complementa application-prod.yml (pool Hikari y driver MySQL):
+ * - format_sql apagado (las estadísticas se controlan con app.cache.hibernate.statistics)
+ * - Batching JDBC de INSERT/UPDATE (app.persistence.jdbc-batch-size)
+ * - Orden de INSERT/UPDATE por entidad para que el batch no se corte
+ * - Batching también para entidades con @Version (Student)
+ * - Relleno de parámetros IN (1, 2, 4, 8, ...): las consultas por lista de
+ *   ids/emails reutilizan la misma sentencia preparada en la caché del driver
+ */
+@Configuration
+@Profile("prod")
+public class ProdPersistenceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer prodHibernateProperties(
+            @Value("${app.persistence.jdbc-batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.FORMAT_SQL, false);
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            properties.put(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+            properties.put(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, 2048);
+        };
+    }
+}
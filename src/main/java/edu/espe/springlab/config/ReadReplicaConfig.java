@@ -0,0 +1,78 @@
+package edu.espe.springlab.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.espe.springlab.datasource.ReadReplicaProperties;
+import edu.espe.springlab.datasource.ReadWriteRoutingDataSource;
+import edu.espe.springlab.datasource.ReplicaNode;
+import edu.espe.springlab.datasource.ReplicaSelector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CONFIGURACIÓN DE LECTURAS EN RÉPLICAS
+ *
+ * Se activa con app.datasource.read-replicas.enabled=true y reemplaza
+ * el datasource de Spring Boot por:
+ *
+ *   LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource → primario | réplicas
+ *
+ * - Primario: spring.datasource.* (url, credenciales y spring.datasource.hikari)
+ * - Réplicas: app.datasource.read-replicas.nodes; cada pool copia la
+ *   configuración Hikari del primario y cambia url, credenciales y nombre
+ *
+ * Los métodos @Transactional(readOnly = true) leen de una réplica; el
+ * resto (create, deactivate, importación, cambio masivo y la carga de los
+ * índices en memoria) va al primario. Una lectura que precede a una
+ * escritura debe estar en la misma transacción de escritura. Las lecturas
+ * que llenan cachés (getById, versión del listado, natural id) van al
+ * primario; ver ReadWriteRoutingDataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       ReadReplicaProperties properties) {
+        String poolName = primaryDataSource.getPoolName() == null ? "spring-lab" : primaryDataSource.getPoolName();
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Node node : properties.getNodes()) {
+            HikariDataSource pool = new HikariDataSource();
+            primaryDataSource.copyStateTo(pool);
+            pool.setJdbcUrl(node.getUrl());
+            if (node.getUsername() != null) {
+                pool.setUsername(node.getUsername());
+            }
+            if (node.getPassword() != null) {
+                pool.setPassword(node.getPassword());
+            }
+            pool.setPoolName(poolName + "-" + node.getName());
+            replicas.add(new ReplicaNode(node.getName(), pool));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, ReplicaSelector.of(properties.getSelection()));
+    }
+
+    // Datasource que usan JPA, JdbcTemplate y los gestores de transacciones
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,20 @@
+package edu.espe.springlab.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * CONFIGURACIÓN DE TAREAS PROGRAMADAS
+ * 
+ * Habilita @Scheduled. Tareas actuales:
+ * - StudentStatistics.recount: Recuento periódico de las estadísticas
+ *   (app.students.stats.recount-interval-ms)
+ * - StudentChangeStreams.heartbeat: Comentario SSE a los suscriptores
+ *   del feed de cambios (app.students.changes.heartbeat-ms)
+ * - ReadWriteRoutingDataSource.probe: Latencia y disponibilidad de las
+ *   réplicas de lectura (app.datasource.read-replicas.probe-interval-ms)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,58 @@
+package edu.espe.springlab.config;
+
+import edu.espe.springlab.cache.CacheInvalidationTransport;
+import edu.espe.springlab.cache.LocalCacheInvalidationTransport;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CACHÉ DE SEGUNDO NIVEL DE HIBERNATE
+ * 
+ * Regiones en memoria (JCache con Caffeine, definidas en caffeine-jcache.conf):
+ * - students: Entidad Student por id (findById, deactivate)
+ * - students-natural-id: email → id (findByEmail / existsByEmail)
+ * - Resultados de consultas marcadas como cacheables y su tabla de
+ *   invalidación (update timestamps)
+ * 
+ * Hibernate mantiene las regiones al confirmar cada escritura; los UPDATE
+ * masivos (JPQL) vacían la región de la entidad. Con varios nodos, cada
+ * cambio se propaga con un CacheInvalidationTransport (ver StudentCacheInvalidator);
+ * el transporte local solo alcanza a los nodos del mismo proceso.
+ * 
+ * Se configura con:
+ * - app.cache.hibernate.enabled: Activa el cache de segundo nivel (true)
+ * - app.cache.hibernate.statistics: Contadores de Hibernate para GET /api/cache/stats
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(
+            @Value("${app.cache.hibernate.enabled:true}") boolean enabled,
+            @Value("${app.cache.hibernate.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put("hibernate.javax.cache.provider", CAFFEINE_PROVIDER);
+                properties.put("hibernate.javax.cache.uri", "classpath:caffeine-jcache.conf");
+                properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+            }
+        };
+    }
+
+    // Transporte en memoria; un despliegue con varios nodos registra el suyo (ej: Redis pub/sub)
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationTransport.class)
+    public CacheInvalidationTransport cacheInvalidationTransport() {
+        return new LocalCacheInvalidationTransport();
+    }
+}
@@ -0,0 +1,70 @@
+package edu.espe.springlab.config;
+
+import edu.espe.springlab.domain.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MIGRACIÓN DE IDS: IDENTITY → SECUENCIA POR BLOQUES
+ * 
+ * Los estudiantes creados antes del cambio tienen ids de AUTO_INCREMENT,
+ * pero la secuencia students_seq nueva empieza en 1. Al arrancar (antes
+ * de atender peticiones) se adelanta la secuencia por encima del id
+ * máximo existente para que los bloques nuevos no choquen:
+ * 
+ * - BD con secuencias (H2, PostgreSQL): ALTER SEQUENCE ... RESTART WITH
+ * - MySQL (tabla students_seq emulada por Hibernate): UPDATE next_val
+ * 
+ * El valor objetivo es max(id) + allocationSize + 1, válido tanto para
+ * el optimizador pooled (el valor es el final del bloque) como para
+ * pooled-lo (el valor es el inicio del bloque). Solo se adelanta, nunca
+ * se retrocede, así que ejecutarlo en cada arranque es seguro.
+ *
+ * Solo adelanta una secuencia que ya existe: con ddl-auto: validate
+ * (perfil prod) se crea y siembra antes con db/students_seq-mysql.sql.
+ */
+@Component
+public class StudentIdSequenceInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentIdSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // El EntityManagerFactory garantiza que el esquema ya fue creado/validado
+    public StudentIdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from students", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long target = maxId + Student.ID_ALLOCATION_SIZE + 1;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+
+        if (dialect.getSequenceSupport().supportsSequences()) {
+            String nextValue = dialect.getSequenceSupport().getSequenceNextValString(Student.ID_SEQUENCE);
+            Long next = jdbcTemplate.queryForObject(nextValue, Long.class);
+            if (next != null && next < target) {
+                jdbcTemplate.execute("alter sequence " + Student.ID_SEQUENCE + " restart with " + target);
+                log.info("Secuencia {} adelantada a {} (max id = {})", Student.ID_SEQUENCE, target, maxId);
+            }
+        } else {
+            int updated = jdbcTemplate.update(
+                    "update " + Student.ID_SEQUENCE + " set next_val = ? where next_val < ?", target, target);
+            if (updated > 0) {
+                log.info("Tabla {} adelantada a {} (max id = {})", Student.ID_SEQUENCE, target, maxId);
+            }
+        }
+    }
+}
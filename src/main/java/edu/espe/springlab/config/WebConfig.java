@@ -1,19 +1,67 @@
 package edu.espe.springlab.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import edu.espe.springlab.interceptor.ConcurrencyLimitInterceptor;
+import edu.espe.springlab.interceptor.RateLimitInterceptor;
 import edu.espe.springlab.interceptor.RequestLoggingInterceptor;
+import edu.espe.springlab.ratelimit.RateLimitProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * CONFIGURACIÓN WEB
+ * 
+ * - Interceptores de /api/** (en este orden):
+ *   · RequestLoggingInterceptor: latencia (también de las peticiones rechazadas)
+ *   · RateLimitInterceptor: 429 por cliente y endpoint (app.rate-limit.routes)
+ *   · ConcurrencyLimitInterceptor: 503 cuando el servicio está saturado
+ *   Las métricas (/api/metrics/**) no se limitan. El feed de cambios
+ *   (/api/students/changes/**) no cuenta como petición en curso: sus
+ *   conexiones quedan abiertas esperando sin usar hilos ni la BD.
+ * - Formatos binarios por negociación de contenido (header Accept):
+ *   · application/cbor           → CBOR
+ *   · application/x-jackson-smile → Smile
+ *   Ambos usan el mismo builder de Jackson que el JSON (spring.jackson.*),
+ *   por lo que los campos y las fechas se escriben igual que en JSON.
+ */
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Autowired
     private RequestLoggingInterceptor loggingInterceptor;
 
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**").excludePathPatterns("/api/metrics/**");
+        registry.addInterceptor(concurrencyLimitInterceptor).addPathPatterns("/api/**")
+                .excludePathPatterns("/api/metrics/**", "/api/students/changes/**");
+    }
+
+    // Reemplaza al convertidor CBOR por defecto (que no aplica spring.jackson.*)
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // Reemplaza al convertidor Smile por defecto (que no aplica spring.jackson.*)
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
     }
 }
@@ -0,0 +1,100 @@
+package edu.espe.springlab.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CONFIGURACIÓN DE LAS RÉPLICAS DE LECTURA (app.datasource.read-replicas)
+ * 
+ * - enabled: Activa el enrutamiento lectura/escritura (false = un solo datasource)
+ * - selection: ROUND_ROBIN (turnos) o LEAST_LATENCY (la réplica más rápida)
+ * - probe-interval-ms: Cada cuánto se mide la latencia y disponibilidad de cada réplica
+ * - nodes: Réplicas (nombre, url y credenciales); el resto de la configuración
+ *   del pool se copia de spring.datasource.hikari
+ */
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    public enum Selection {ROUND_ROBIN, LEAST_LATENCY}
+
+    /**
+     * Una réplica de lectura
+     */
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+
+    private boolean enabled = false;
+    private Selection selection = Selection.ROUND_ROBIN;
+    private long probeIntervalMs = 5000;
+    private List<Node> nodes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Selection getSelection() {
+        return selection;
+    }
+
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    public long getProbeIntervalMs() {
+        return probeIntervalMs;
+    }
+
+    public void setProbeIntervalMs(long probeIntervalMs) {
+        this.probeIntervalMs = probeIntervalMs;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+}
@@ -0,0 +1,188 @@
+package edu.espe.springlab.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DATASOURCE DE LECTURA/ESCRITURA (primario + réplicas)
+ *
+ * Decide a qué pool va cada conexión física:
+ * - Sin transacción o en una transacción de escritura → primario
+ *   (la escritura además marca la petición actual, ver ReadYourWrites)
+ * - @Transactional(readOnly = true) → una réplica disponible, elegida
+ *   por el ReplicaSelector (turnos o menor latencia)
+ * - Lectura en una petición que ya escribió → primario
+ * - Sin réplicas disponibles, o si la réplica elegida no entrega una
+ *   conexión → primario (la réplica queda fuera hasta el siguiente probe)
+ *
+ * IMPORTANTE: Debe usarse detrás de un LazyConnectionDataSourceProxy.
+ * El gestor de transacciones pide la conexión al iniciar la transacción,
+ * antes de registrar si es de solo lectura; el proxy retrasa la conexión
+ * física hasta la primera sentencia, cuando la transacción ya está registrada.
+ *
+ * Una transacción de solo lectura que se une a una de escritura
+ * (propagación REQUIRED) usa la conexión del primario de la externa.
+ *
+ * CACHÉS: las lecturas que llenan una caché invalidada por el primario
+ * (getById, la versión del listado, el cache de natural id) se hacen
+ * fuera de una transacción de solo lectura y van al primario; las que
+ * pueden ir a una réplica consultan isReplicaTransaction() antes de guardar.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public static final String PRIMARY = "primary";
+
+    // Clave del recurso de transacción que indica una lectura en réplica
+    private static final Object REPLICA_TRANSACTION = new Object();
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final ReplicaSelector selector;
+
+    // Conexiones entregadas por el primario y lecturas desviadas al primario por la marca de escritura
+    private final LongAdder primaryRouted = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, ReplicaSelector selector) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selector = selector;
+    }
+
+    // Forma de pedir la conexión (con o sin credenciales)
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(Connector connector) throws SQLException {
+        ReplicaNode replica = selectReplica();
+        if (replica != null) {
+            try {
+                Connection con = connector.connect(replica.getDataSource());
+                replica.countRouted();
+                markReplicaTransaction();
+                return con;
+            } catch (SQLException ex) {
+                replica.markDown();
+                log.warn("Replica '{}' no disponible, la lectura va al primario: {}", replica.getName(), ex.getMessage());
+            }
+        }
+        Connection con = connector.connect(primary);
+        primaryRouted.increment();
+        return con;
+    }
+
+    // Réplica para la conexión actual, o null si debe ir al primario
+    private ReplicaNode selectReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWrites.markWrite();
+            return null;
+        }
+        if (ReadYourWrites.isSticky()) {
+            stickyReads.increment();
+            return null;
+        }
+        List<ReplicaNode> healthy = new ArrayList<>(replicas.size());
+        for (ReplicaNode node : replicas) {
+            if (node.isUp()) {
+                healthy.add(node);
+            }
+        }
+        return healthy.isEmpty() ? null : selector.select(healthy);
+    }
+
+    /**
+     * true si la transacción actual lee de una réplica.
+     * Lo leído puede estar atrasado: no debe guardarse en cachés que el
+     * primario invalida al confirmar (se releería como vigente).
+     */
+    public static boolean isReplicaTransaction() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_TRANSACTION);
+    }
+
+    // Marca la transacción actual hasta que termine
+    private static void markReplicaTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isReplicaTransaction()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_TRANSACTION, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_TRANSACTION);
+            }
+        });
+    }
+
+    /**
+     * MEDICIÓN PERIÓDICA DE LAS RÉPLICAS
+     * Actualiza latencia y disponibilidad (app.datasource.read-replicas.probe-interval-ms)
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.read-replicas.probe-interval-ms:5000}")
+    public void probe() {
+        replicas.forEach(ReplicaNode::probe);
+    }
+
+    /**
+     * Conexiones entregadas por cada pool (primario primero) y lecturas
+     * desviadas al primario por haber escrito en la misma petición.
+     */
+    public Map<String, Long> getRoutedCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(PRIMARY, primaryRouted.sum());
+        replicas.forEach(node -> counts.put(node.getName(), node.getRouted()));
+        counts.put("stickyReads", stickyReads.sum());
+        return counts;
+    }
+
+    // Todos los pools (primario primero), ej: para medir la cola de espera de conexiones
+    public List<DataSource> getPools() {
+        List<DataSource> pools = new ArrayList<>(replicas.size() + 1);
+        pools.add(primary);
+        replicas.forEach(node -> pools.add(node.getDataSource()));
+        return pools;
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    // Cierra los pools de las réplicas (el primario es un bean y lo cierra Spring)
+    @Override
+    public void destroy() throws Exception {
+        for (ReplicaNode node : replicas) {
+            if (node.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
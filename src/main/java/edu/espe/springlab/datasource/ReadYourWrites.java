@@ -0,0 +1,36 @@
+package edu.espe.springlab.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * LEER LO PROPIO ESCRITO (por petición)
+ * 
+ * Las réplicas se actualizan con retraso: una lectura que sigue a una
+ * escritura en la misma petición podría no verla. Cuando una transacción
+ * de escritura usa la BD se marca la petición HTTP actual y, desde ahí,
+ * sus lecturas van al primario.
+ * 
+ * Fuera de una petición (tareas programadas, exportaciones en otro hilo)
+ * no hay marca: cada lectura de solo lectura puede ir a una réplica.
+ */
+final class ReadYourWrites {
+
+    private static final String ATTRIBUTE = ReadYourWrites.class.getName() + ".wrote";
+
+    private ReadYourWrites() {
+    }
+
+    static void markWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    static boolean isSticky() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && Boolean.TRUE.equals(attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,84 @@
+package edu.espe.springlab.datasource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RÉPLICA DE LECTURA
+ * 
+ * Pool de conexiones de una réplica con su estado:
+ * - up: false si la última medición o conexión falló (no recibe lecturas)
+ * - latencia: promedio móvil exponencial del tiempo de obtener una conexión
+ *   y validarla (lo usa la selección LEAST_LATENCY)
+ * 
+ * Solo el probe escribe la latencia; las lecturas no toman bloqueos.
+ */
+public final class ReplicaNode {
+
+    // Peso de la última medición en el promedio de latencia
+    private static final double ALPHA = 0.2;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final LongAdder routed = new LongAdder();
+    private volatile boolean up = true;
+    private volatile long latencyNanos;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Mide la réplica: obtiene una conexión y la valida.
+     * Si falla queda fuera de la selección hasta la siguiente medición exitosa.
+     */
+    public void probe() {
+        long start = System.nanoTime();
+        try (Connection con = dataSource.getConnection()) {
+            boolean valid = con.isValid(VALIDATION_TIMEOUT_SECONDS);
+            if (valid) {
+                recordLatency(System.nanoTime() - start);
+            }
+            up = valid;
+        } catch (SQLException ex) {
+            up = false;
+        }
+    }
+
+    private void recordLatency(long sample) {
+        long current = latencyNanos;
+        latencyNanos = current == 0 ? sample : (long) (current * (1 - ALPHA) + sample * ALPHA);
+    }
+
+    void markDown() {
+        up = false;
+    }
+
+    void countRouted() {
+        routed.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isUp() {
+        return up;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public long getRouted() {
+        return routed.sum();
+    }
+}
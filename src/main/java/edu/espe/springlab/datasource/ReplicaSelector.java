@@ -0,0 +1,36 @@
+package edu.espe.springlab.datasource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SELECCIÓN DE LA RÉPLICA PARA UNA LECTURA
+ * Recibe solo las réplicas disponibles (nunca una lista vacía).
+ */
+public interface ReplicaSelector {
+
+    ReplicaNode select(List<ReplicaNode> healthy);
+
+    static ReplicaSelector of(ReadReplicaProperties.Selection selection) {
+        return selection == ReadReplicaProperties.Selection.LEAST_LATENCY ? leastLatency() : roundRobin();
+    }
+
+    // Turnos: cada lectura va a la siguiente réplica disponible
+    static ReplicaSelector roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return healthy -> healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    // La réplica con menor latencia medida (empate: la primera de la lista)
+    static ReplicaSelector leastLatency() {
+        return healthy -> {
+            ReplicaNode best = healthy.get(0);
+            for (ReplicaNode node : healthy) {
+                if (node.getLatencyNanos() < best.getLatencyNanos()) {
+                    best = node;
+                }
+            }
+            return best;
+        };
+    }
+}
@@ -1,7 +1,12 @@
 package edu.espe.springlab.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -11,25 +16,52 @@ import java.time.LocalDate;
  * Contiene toda la información de un estudiante.
  * 
  * CAMPOS:
- * - id: Identificador único (auto-generado)
+ * - id: Identificador único (secuencia students_seq, reservada en bloques de 50)
  * - fullName: Nombre completo (requerido, máx 120 chars)
  * - email: Correo electrónico (requerido, único, máx 120 chars)
  * - birthDate: Fecha de nacimiento (opcional)
  * - active: Estado del estudiante (default: true)
+ * - version: Versión del registro (la incrementa Hibernate en cada UPDATE)
+ * - updatedAt: Fecha/hora de la última modificación (@PrePersist / @PreUpdate)
  * 
  * ANOTACIONES JPA:
  * @Entity - Marca esta clase como entidad JPA
  * @Table - Define el nombre de la tabla en BD
  * @Id - Marca el campo como clave primaria
- * @GeneratedValue - Auto-genera el valor del ID
+ * @GeneratedValue - Genera el ID con la secuencia students_seq
+ * @SequenceGenerator - Reserva ids en bloques (allocationSize): Hibernate
+ *   conoce el id sin ejecutar el INSERT y puede agruparlos en batch JDBC.
+ *   En MySQL (sin secuencias) Hibernate usa una tabla students_seq.
+ *   El optimizador se elige con hibernate.id.optimizer.pooled.preferred
+ *   (pooled-lo por defecto, ver application.yml).
  * @Column - Configuración de columna (nullable, unique, length)
+ * @Version - Control de concurrencia optimista (usado también para los ETag)
+ * 
+ * CACHÉ DE SEGUNDO NIVEL (ver SecondLevelCacheConfig):
+ * @Cacheable / @Cache - La entidad se guarda por id en la región "students"
+ *   (READ_WRITE: se actualiza al confirmar cada escritura)
+ * @NaturalId / @NaturalIdCache - email es el identificador natural; la
+ *   resolución email → id se guarda en "students-natural-id", así
+ *   findByEmail y existsByEmail no consultan la BD si ya está en memoria.
+ *   Es mutable porque la actualización completa (examen #1) puede cambiarlo.
  */
 @Entity
-@Table(name = "students")
+@Table(name = "students", indexes = @Index(name = "idx_students_updated_at", columnList = "updated_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Student.CACHE_REGION)
+@NaturalIdCache(region = Student.NATURAL_ID_CACHE_REGION)
 public class Student {
-    // ID único del estudiante (auto-generado por la BD)
+    // Tamaño del bloque de ids reservado en cada lectura de la secuencia
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String ID_SEQUENCE = "students_seq";
+    // Regiones del cache de segundo nivel (caffeine-jcache.conf)
+    public static final String CACHE_REGION = "students";
+    public static final String NATURAL_ID_CACHE_REGION = "students-natural-id";
+
+    // ID único del estudiante (secuencia con reserva por bloques)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     // Nombre completo del estudiante (requerido, máx 120 caracteres)
@@ -37,6 +69,7 @@ public class Student {
     private String fullName;
 
     // Email único del estudiante (requerido, único, máx 120 caracteres)
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true, length = 120)
     private String email;
 
@@ -46,9 +79,24 @@ public class Student {
     // Estado activo/inactivo del estudiante (default: true)
     private Boolean active = true;
 
+    // Versión para concurrencia optimista (las filas existentes quedan en 0)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // Última modificación, mantenida por los callbacks de JPA
+    private Instant updatedAt;
+
     // Constructor vacío requerido por JPA
     public Student() {}
 
+    // Marca la fecha de modificación en cada INSERT y UPDATE
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+    }
+
     public Long getId() {
         return id;
     }
@@ -88,4 +136,20 @@ public class Student {
     public void setActive(Boolean active) {
         this.active = active;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,62 @@
+package edu.espe.springlab.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Reporte de importación masiva
+ * 
+ * Resume el resultado de una importación (JSON o CSV):
+ * - total / created / rejected: Conteo de filas
+ * - elapsedMillis / rowsPerSecond: Rendimiento de la importación
+ * - rows: Resultado individual de cada fila, en el orden recibido
+ */
+public class StudentImportReport {
+    private int total;
+    private int created;
+    private int rejected;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<StudentImportResult> rows = new ArrayList<>();
+
+    // Agrega el resultado de una fila y actualiza los contadores
+    public void add(StudentImportResult result) {
+        rows.add(result);
+        total++;
+        if (result.getStatus() == StudentImportResult.Status.CREATED) {
+            created++;
+        } else {
+            rejected++;
+        }
+    }
+
+    // Registra la duración total y calcula las filas por segundo
+    public void finish(long elapsedNanos) {
+        this.elapsedMillis = elapsedNanos / 1_000_000;
+        this.rowsPerSecond = elapsedNanos == 0 ? 0 : total * 1_000_000_000d / elapsedNanos;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public List<StudentImportResult> getRows() {
+        return rows;
+    }
+}
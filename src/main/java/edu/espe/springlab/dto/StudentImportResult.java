@@ -0,0 +1,74 @@
+package edu.espe.springlab.dto;
+
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Resultado de una fila de la importación masiva
+ * 
+ * CAMPOS:
+ * - row: Número de fila en el archivo (1 = primera fila de datos)
+ * - email: Email recibido en esa fila
+ * - status: CREATED, INVALID o DUPLICATE
+ * - id: ID asignado (solo si se creó)
+ * - errors: Mensajes de validación (solo si es INVALID o DUPLICATE)
+ */
+public class StudentImportResult {
+
+    public enum Status { CREATED, INVALID, DUPLICATE }
+
+    private int row;
+    private String email;
+    private Status status;
+    private Long id;
+    private List<String> errors;
+
+    public StudentImportResult() {}
+
+    public StudentImportResult(int row, String email, Status status, Long id, List<String> errors) {
+        this.row = row;
+        this.email = email;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
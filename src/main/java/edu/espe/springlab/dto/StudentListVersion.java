@@ -0,0 +1,41 @@
+package edu.espe.springlab.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * VALIDADOR DE LA COLECCIÓN DE ESTUDIANTES
+ * 
+ * Resume el estado de toda la tabla sin cargar filas:
+ * - count: Total de estudiantes (cambia con altas y borrados)
+ * - lastModified: Última modificación (cambia con cada alta o UPDATE)
+ * 
+ * Se usa para responder 304 Not Modified en GET /api/students.
+ * La consulta agregada (primario) decide el 304; la respuesta 200 lleva el
+ * validador de las filas que realmente envía (ver of).
+ */
+public record StudentListVersion(Long count, Instant lastModified) {
+
+    // Validador de las filas ya leídas (mismo criterio que la consulta agregada)
+    public static StudentListVersion of(List<StudentResponse> students) {
+        Instant last = null;
+        for (StudentResponse student : students) {
+            if (student.updatedAt() != null && (last == null || student.updatedAt().isAfter(last))) {
+                last = student.updatedAt();
+            }
+        }
+        return new StudentListVersion((long) students.size(), last);
+    }
+
+    // ETag débil derivado del conteo y la última modificación: vale para JSON,
+    // CBOR y Smile (mismos datos) y no impide que Tomcat comprima la respuesta
+    public String etag() {
+        long stamp = lastModified == null ? 0 : lastModified.getEpochSecond() * 1_000_000_000L + lastModified.getNano();
+        return "W/\"students-" + count + "-" + stamp + "\"";
+    }
+
+    // Last-Modified en milisegundos (-1 si la tabla está vacía)
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
@@ -0,0 +1,41 @@
+package edu.espe.springlab.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO DE ENTRADA - Lectura de varios estudiantes en una petición
+ * 
+ * Recibe UNA de dos listas (máx 1000 elementos):
+ * - ids: Ids de estudiantes
+ * - emails: Emails de estudiantes (sin distinguir mayúsculas)
+ * 
+ * Los valores repetidos se resuelven una sola vez, pero la respuesta
+ * trae un resultado por cada posición de la lista.
+ */
+public class StudentLookupRequest {
+    // Ids a buscar (modo por id)
+    @Size(max = 1000)
+    private List<Long> ids;
+
+    // Emails a buscar (modo por email)
+    @Size(max = 1000)
+    private List<String> emails;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    public void setEmails(List<String> emails) {
+        this.emails = emails;
+    }
+}
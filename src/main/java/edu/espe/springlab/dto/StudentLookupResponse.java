@@ -0,0 +1,69 @@
+package edu.espe.springlab.dto;
+
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Lectura por lote
+ * 
+ * - results: Un resultado por valor pedido, en el mismo orden de la petición
+ * - found / notFound: Cantidad de posiciones encontradas y no encontradas
+ * - cacheHits: Ids resueltos desde la caché sin consultar la BD
+ * - queries: Consultas IN ejecutadas
+ */
+public class StudentLookupResponse {
+    private List<StudentLookupResult> results;
+    private int found;
+    private int notFound;
+    private int cacheHits;
+    private int queries;
+
+    public StudentLookupResponse() {}
+
+    public StudentLookupResponse(List<StudentLookupResult> results, int cacheHits, int queries) {
+        this.results = results;
+        this.found = (int) results.stream().filter(StudentLookupResult::isFound).count();
+        this.notFound = results.size() - found;
+        this.cacheHits = cacheHits;
+        this.queries = queries;
+    }
+
+    public List<StudentLookupResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<StudentLookupResult> results) {
+        this.results = results;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public void setFound(int found) {
+        this.found = found;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public void setCacheHits(int cacheHits) {
+        this.cacheHits = cacheHits;
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    public void setQueries(int queries) {
+        this.queries = queries;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.espe.springlab.dto;
+
+/**
+ * RESULTADO DE UNA POSICIÓN DE LA LECTURA POR LOTE
+ * 
+ * - id / email: Valor pedido (solo el del modo usado)
+ * - found: false si no existe un estudiante con ese valor
+ * - student: Datos del estudiante (null si found = false)
+ */
+public class StudentLookupResult {
+    private Long id;
+    private String email;
+    private boolean found;
+    private StudentResponse student;
+
+    public StudentLookupResult() {}
+
+    public StudentLookupResult(Long id, String email, StudentResponse student) {
+        this.id = id;
+        this.email = email;
+        this.found = student != null;
+        this.student = student;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+}
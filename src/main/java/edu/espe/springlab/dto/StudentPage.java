@@ -0,0 +1,45 @@
+package edu.espe.springlab.dto;
+
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Student Page (paginación por cursor)
+ * 
+ * Representa una página de estudiantes obtenida con paginación keyset
+ * sobre la clave primaria (id).
+ * 
+ * CAMPOS:
+ * - items: Estudiantes de la página, ordenados por id ascendente
+ * - nextCursor: Token opaco para pedir la siguiente página
+ *   (null cuando ya no hay más resultados)
+ * 
+ * El cliente no debe interpretar el cursor, solo reenviarlo
+ * en el parámetro "cursor" de la siguiente petición.
+ */
+public class StudentPage {
+    private List<StudentResponse> items;
+    private String nextCursor;
+
+    public StudentPage() {}
+
+    public StudentPage(List<StudentResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<StudentResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<StudentResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,5 +1,6 @@
 package edu.espe.springlab.dto;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -13,54 +14,28 @@ import java.time.LocalDate;
  * - Controlar qué información se expone al cliente
  * - Facilitar cambios sin afectar la capa de persistencia
  * 
+ * version y updatedAt permiten a los clientes usar peticiones
+ * condicionales (ETag / Last-Modified).
+ * 
  * DIFERENCIA CON StudentRequestData:
  * - StudentRequestData: Para recibir datos (sin ID)
  * - StudentResponse: Para enviar datos (con ID y active)
+ * 
+ * INMUTABLE:
+ * Es un record: se comparte sin copias entre la caché, los eventos y las
+ * respuestas. active es boolean primitivo (sin Boolean por fila); id y
+ * version quedan como Long porque una entidad aún no guardada no los tiene.
+ * Se serializa con StudentResponseSerializer (sin reflexión).
+ * 
+ * PROYECCIÓN:
+ * El constructor canónico se usa en las consultas JPQL "select new ..."
+ * del repositorio, que llenan el DTO directamente sin cargar la entidad.
  */
-public class StudentResponse {
-    private Long id;
-    private String fullName;
-    private String email;
-    private LocalDate birthDate;
-    private Boolean active;
-
-    public Long getId() {
-        return id;
-    }
-
-    public void setId(Long id) {
-        this.id = id;
-    }
-
-    public String getFullName() {
-        return fullName;
-    }
-
-    public void setFullName(String fullName) {
-        this.fullName = fullName;
-    }
-
-    public String getEmail() {
-        return email;
-    }
-
-    public void setEmail(String email) {
-        this.email = email;
-    }
-
-    public LocalDate getBirthDate() {
-        return birthDate;
-    }
-
-    public void setBirthDate(LocalDate birthDate) {
-        this.birthDate = birthDate;
-    }
-
-    public Boolean getActive() {
-        return active;
-    }
-
-    public void setActive(Boolean active) {
-        this.active = active;
-    }
+public record StudentResponse(Long id,
+                              String fullName,
+                              String email,
+                              LocalDate birthDate,
+                              boolean active,
+                              Long version,
+                              Instant updatedAt) {
 }
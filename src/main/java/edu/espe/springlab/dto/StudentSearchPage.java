@@ -0,0 +1,59 @@
+package edu.espe.springlab.dto;
+
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Resultado de búsqueda por nombre
+ * 
+ * CAMPOS:
+ * - items: Estudiantes de la página, ordenados por relevancia
+ * - page / size: Página solicitada (desde 0) y tamaño
+ * - total: Total de coincidencias encontradas
+ */
+public class StudentSearchPage {
+    private List<StudentResponse> items;
+    private int page;
+    private int size;
+    private long total;
+
+    public StudentSearchPage() {}
+
+    public StudentSearchPage(List<StudentResponse> items, int page, int size, long total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+    }
+
+    public List<StudentResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<StudentResponse> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,26 @@
+package edu.espe.springlab.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO DE SALIDA - Estadísticas agregadas de estudiantes
+ * 
+ * - total / active / inactive: Conteo por estado
+ * - ageBuckets: Estudiantes por rango de edad ("unknown" = sin fecha de nacimiento)
+ * - emailDomains: Dominios de email más frecuentes (top N)
+ * - otherDomains: Estudiantes del resto de dominios
+ * - loaded: false mientras no termina el primer conteo en la BD
+ * - lastRecount: Fecha del último conteo de verificación
+ * - lastDrift: Diferencia encontrada en ese conteo (0 = los contadores estaban al día)
+ */
+public record StudentStats(long total,
+                           long active,
+                           long inactive,
+                           Map<String, Long> ageBuckets,
+                           Map<String, Long> emailDomains,
+                           long otherDomains,
+                           boolean loaded,
+                           Instant lastRecount,
+                           long lastDrift) {
+}
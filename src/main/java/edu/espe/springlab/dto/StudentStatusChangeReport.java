@@ -0,0 +1,83 @@
+package edu.espe.springlab.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO DE SALIDA - Reporte de un cambio masivo de estado
+ * 
+ * - matched: Estudiantes encontrados por la selección
+ * - updated: Estudiantes que cambiaron de estado
+ * - unchanged: Estudiantes que ya estaban en el estado pedido
+ * - notFound: Ids de la lista que no existen
+ * - conflicts: Ids modificados por otra petición (versión distinta)
+ * - elapsedMillis: Duración de la operación
+ */
+public class StudentStatusChangeReport {
+    private boolean active;
+    private int matched;
+    private int updated;
+    private int unchanged;
+    private List<Long> notFound = new ArrayList<>();
+    private List<Long> conflicts = new ArrayList<>();
+    private long elapsedMillis;
+
+    public StudentStatusChangeReport() {}
+
+    public StudentStatusChangeReport(boolean active) {
+        this.active = active;
+    }
+
+    public void addMatched(int count) {
+        matched += count;
+    }
+
+    public void addUpdated() {
+        updated++;
+    }
+
+    public void addUnchanged() {
+        unchanged++;
+    }
+
+    public void addNotFound(Long id) {
+        notFound.add(id);
+    }
+
+    public void addConflict(Long id) {
+        conflicts.add(id);
+    }
+
+    // Registra la duración total de la operación
+    public void finish(long elapsedNanos) {
+        this.elapsedMillis = elapsedNanos / 1_000_000;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getMatched() {
+        return matched;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public List<Long> getConflicts() {
+        return conflicts;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,95 @@
+package edu.espe.springlab.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO DE ENTRADA - Cambio masivo de estado (activar / desactivar)
+ * 
+ * Selecciona los estudiantes de UNA de dos formas:
+ * - ids: Lista explícita de ids (máx 10000)
+ * - filtro: birthDateFrom / birthDateTo (inclusive) y/o emailDomain
+ * 
+ * CAMPOS:
+ * - active: Estado destino (true = activar, false = desactivar)
+ * - expectedVersions: Opcional, id → versión que el cliente leyó;
+ *   si la versión actual es otra, el id se reporta como conflicto
+ */
+public class StudentStatusChangeRequest {
+    // Estado destino: Requerido
+    @NotNull
+    private Boolean active;
+
+    // Ids a modificar (modo lista)
+    @Size(max = 10000)
+    private List<Long> ids;
+
+    // Versiones esperadas por id (control optimista del cliente)
+    private Map<Long, Long> expectedVersions;
+
+    // Filtro por rango de fecha de nacimiento (inclusive)
+    private LocalDate birthDateFrom;
+    private LocalDate birthDateTo;
+
+    // Filtro por dominio del email (ej: espe.edu.ec)
+    @Pattern(regexp = "[A-Za-z0-9.-]+")
+    private String emailDomain;
+
+    // Indica si se recibió al menos un criterio de filtro
+    public boolean hasFilter() {
+        return birthDateFrom != null || birthDateTo != null || emailDomain != null;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Map<Long, Long> getExpectedVersions() {
+        return expectedVersions;
+    }
+
+    public void setExpectedVersions(Map<Long, Long> expectedVersions) {
+        this.expectedVersions = expectedVersions;
+    }
+
+    public LocalDate getBirthDateFrom() {
+        return birthDateFrom;
+    }
+
+    public void setBirthDateFrom(LocalDate birthDateFrom) {
+        this.birthDateFrom = birthDateFrom;
+    }
+
+    public LocalDate getBirthDateTo() {
+        return birthDateTo;
+    }
+
+    public void setBirthDateTo(LocalDate birthDateTo) {
+        this.birthDateTo = birthDateTo;
+    }
+
+    public String getEmailDomain() {
+        return emailDomain;
+    }
+
+    public void setEmailDomain(String emailDomain) {
+        this.emailDomain = emailDomain;
+    }
+}
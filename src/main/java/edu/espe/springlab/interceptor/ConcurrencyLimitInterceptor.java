@@ -0,0 +1,106 @@
+package edu.espe.springlab.interceptor;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import edu.espe.springlab.datasource.ReadWriteRoutingDataSource;
+import edu.espe.springlab.ratelimit.AdaptiveConcurrencyLimiter;
+import edu.espe.springlab.ratelimit.RateLimitProperties;
+import edu.espe.springlab.web.advice.ServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * INTERCEPTOR DE LOAD SHEDDING (límite de concurrencia adaptativo)
+ * 
+ * Rechaza con 503 Service Unavailable + Retry-After ANTES de tocar la BD cuando:
+ * - Ya hay tantas peticiones en curso como el límite actual
+ *   (AdaptiveConcurrencyLimiter lo ajusta según la latencia observada)
+ * - La cola de espera del pool JDBC (hilos esperando conexión en Hikari)
+ *   supera app.rate-limit.concurrency.max-pending-connections
+ *   (con réplicas de lectura se toma la cola más larga de todos los pools)
+ * 
+ * Así una ráfaga de listados completos o de altas no agota el pool y
+ * el resto de endpoints sigue respondiendo.
+ * 
+ * Peticiones asíncronas (streaming): el lugar se libera cuando termina
+ * el re-despacho final, no cuando el controller devuelve el cuerpo.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final RateLimitProperties.Concurrency config;
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectProvider<DataSource> dataSource;
+
+    public ConcurrencyLimitInterceptor(RateLimitProperties properties, ObjectProvider<DataSource> dataSource) {
+        this.config = properties.getConcurrency();
+        this.enabled = properties.isEnabled() && config.isEnabled();
+        this.limiter = new AdaptiveConcurrencyLimiter(config.getInitialLimit(), config.getMinLimit(),
+                config.getMaxLimit(), config.getTargetLatencyMs() * 1_000_000L, config.getBackoffRatio());
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getAttribute(START_ATTRIBUTE) != null) {
+            return true;
+        }
+        if (config.getMaxPendingConnections() > 0 && pendingConnections() > config.getMaxPendingConnections()) {
+            throw new ServiceUnavailableException("El servicio esta saturado, intente de nuevo en unos segundos", 1);
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ServiceUnavailableException("El servicio esta saturado, intente de nuevo en unos segundos", 1);
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    // Hilos esperando una conexión del pool (0 si el pool no es Hikari o no arrancó)
+    // Con réplicas de lectura: la cola más larga entre el primario y las réplicas
+    private int pendingConnections() {
+        DataSource current = dataSource.getIfAvailable();
+        if (current instanceof HikariDataSource hikari) {
+            return pendingConnections(hikari);
+        }
+        try {
+            if (current == null || !current.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+                return 0;
+            }
+            int pending = 0;
+            for (DataSource pool : current.unwrap(ReadWriteRoutingDataSource.class).getPools()) {
+                if (pool instanceof HikariDataSource hikari) {
+                    pending = Math.max(pending, pendingConnections(hikari));
+                }
+            }
+            return pending;
+        } catch (SQLException ex) {
+            return 0;
+        }
+    }
+
+    private static int pendingConnections(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+}
@@ -0,0 +1,107 @@
+package edu.espe.springlab.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.espe.springlab.ratelimit.RateLimitProperties;
+import edu.espe.springlab.ratelimit.TokenBucket;
+import edu.espe.springlab.web.advice.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * INTERCEPTOR DE RATE LIMITING (por cliente y por endpoint)
+ * 
+ * Cada combinación cliente + método + ruta del handler tiene su propio
+ * TokenBucket (GCRA sobre un AtomicLong). Si no hay token se responde
+ * 429 Too Many Requests con el header Retry-After.
+ * 
+ * - Cliente: usuario autenticado o IP remota. El header
+ *   app.rate-limit.client-header solo se usa si la petición llega desde
+ *   uno de app.rate-limit.trusted-proxies; si no, cualquiera podría
+ *   cambiarlo en cada petición y saltarse el límite
+ * - Límites: app.rate-limit.routes (primera ruta que coincide) o default-route
+ * - Los buckets sin uso por 10 minutos se descartan (caché Caffeine acotada)
+ * 
+ * Se registra en WebConfig junto a RequestLoggingInterceptor.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RateLimitProperties properties;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    // Bucket por cliente + endpoint
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+
+    // Configuración resuelta por endpoint ("GET /api/students/{id}")
+    private final ConcurrentMap<String, RateLimitProperties.Route> routes = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // El re-despacho de una petición asíncrona ya pasó por el límite
+        if (!properties.isEnabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+        RateLimitProperties.Route route = routes.computeIfAbsent(endpoint,
+                e -> resolve(request.getMethod(), pattern == null ? request.getRequestURI() : pattern.toString()));
+
+        TokenBucket bucket = buckets.get(clientOf(request) + '|' + endpoint,
+                k -> new TokenBucket(route.getRatePerSecond(), route.getBurst(), System.nanoTime()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            long retryAfter = (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+            throw new TooManyRequestsException("Demasiadas peticiones, intente de nuevo mas tarde", retryAfter);
+        }
+        return true;
+    }
+
+    // Primera ruta configurada que coincide con el método y el patrón
+    private RateLimitProperties.Route resolve(String method, String pattern) {
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            boolean methodMatches = !StringUtils.hasText(route.getMethod()) || route.getMethod().equalsIgnoreCase(method);
+            if (methodMatches && route.getPattern() != null && matcher.match(route.getPattern(), pattern)) {
+                return route;
+            }
+        }
+        return properties.getDefaultRoute();
+    }
+
+    // Prefijos distintos: un header no puede hacerse pasar por un usuario o una IP
+    private String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String remote = request.getRemoteAddr();
+        String header = properties.getClientHeader();
+        if (StringUtils.hasText(header) && properties.getTrustedProxies().contains(remote)) {
+            String client = request.getHeader(header);
+            if (StringUtils.hasText(client)) {
+                return "client:" + client;
+            }
+        }
+        return "ip:" + remote;
+    }
+}
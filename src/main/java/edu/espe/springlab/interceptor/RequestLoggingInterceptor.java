@@ -1,44 +1,106 @@
 package edu.espe.springlab.interceptor;
 
+import edu.espe.springlab.metrics.LatencyMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * INTERCEPTOR DE LOGGING
+ * INTERCEPTOR DE LATENCIA Y LOGGING
  * 
- * Registra información de cada petición HTTP:
+ * Registra cada petición HTTP en LatencyMetrics:
  * - Método HTTP (GET, POST, etc.)
- * - URI solicitada
+ * - Ruta del handler (ej: /api/students/{id})
  * - Código de respuesta (200, 404, etc.)
- * - Tiempo de procesamiento en milisegundos
+ * - Tiempo de procesamiento en nanosegundos (System.nanoTime)
  * 
  * CICLO DE VIDA:
- * 1. preHandle() - Antes de procesar la petición
+ * 1. preHandle() - Guarda el instante de inicio (solo la primera vez,
+ *    así las peticiones asíncronas miden el tiempo total)
  * 2. [Controller procesa la petición]
- * 3. afterCompletion() - Después de completar la petición
+ * 3. afterCompletion() - Registra la latencia en el histograma
+ *
+ * El inicio se guarda como long en un StartTime propio de cada hilo, que se
+ * reutiliza en cada despacho (sin un Long por petición). Si la petición pasa
+ * a modo asíncrono el hilo vuelve al pool antes de terminar:
+ * afterConcurrentHandlingStarted() le deja a la petición su propia copia.
+ * 
+ * LOGGING (opcional, muestreado y asíncrono):
+ * - app.request-logging.enabled: Activa el log por petición (default: false)
+ * - app.request-logging.sample-rate: Fracción de peticiones a registrar (0.0 - 1.0)
+ * - El logger escribe a un AsyncAppender (ver logback-spring.xml),
+ *   los hilos de Tomcat no esperan a la consola
  * 
  * CONFIGURACIÓN:
  * Se registra en WebConfig para interceptar todas las rutas /api/**
- * 
- * SALIDA EN CONSOLA:
- * preHandle -> GET /api/students
- * afterCompletion -> status = 200 tiempo = 45 ms
+ * Las métricas se consultan en GET /api/metrics/latency
  */
 @Component
-public class RequestLoggingInterceptor implements HandlerInterceptor {
+public class RequestLoggingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestLoggingInterceptor.class);
+
+    private static final String START_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".start";
+    private static final String UNMAPPED = "UNMAPPED";
+    private static final ThreadLocal<StartTime> THREAD_START = ThreadLocal.withInitial(StartTime::new);
+
+    private final LatencyMetrics metrics;
+    private final boolean logEnabled;
+    private final double sampleRate;
+
+    public RequestLoggingInterceptor(LatencyMetrics metrics,
+                                     @Value("${app.request-logging.enabled:false}") boolean logEnabled,
+                                     @Value("${app.request-logging.sample-rate:0.01}") double sampleRate) {
+        this.metrics = metrics;
+        this.logEnabled = logEnabled;
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        request.setAttribute("t0", System.currentTimeMillis());
-        System.out.println("preHandle -> " + request.getMethod() + " " + request.getRequestURI());
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            StartTime start = THREAD_START.get();
+            start.nanos = System.nanoTime();
+            request.setAttribute(START_ATTRIBUTE, start);
+        }
         return true;
     }
 
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // El holder del hilo lo reutilizará la próxima petición: se copia
+        if (request.getAttribute(START_ATTRIBUTE) instanceof StartTime start && start == THREAD_START.get()) {
+            StartTime own = new StartTime();
+            own.nanos = start.nanos;
+            request.setAttribute(START_ATTRIBUTE, own);
+        }
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        Long t0 = (Long) request.getAttribute("t0");
-        long elapsed = (t0 == null ? 0 : System.currentTimeMillis() - t0);
-        System.out.println("afterCompletion -> status = " + response.getStatus() + " tiempo = " + elapsed + " ms");
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof StartTime start)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start.nanos;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNMAPPED : pattern.toString();
+        metrics.record(request.getMethod(), route, response.getStatus(), elapsed);
+
+        if (logEnabled && log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("{} {} -> status = {} tiempo = {} us",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsed / 1_000);
+        }
+    }
+
+    // Instante de inicio de la petición en curso (mutable, sin boxing)
+    private static final class StartTime {
+        long nanos;
     }
 }
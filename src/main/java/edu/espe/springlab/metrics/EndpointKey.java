@@ -0,0 +1,7 @@
+package edu.espe.springlab.metrics;
+
+/**
+ * Clave de agrupación de latencias: método HTTP, ruta del handler
+ * (ej: /api/students/{id}, no la URI con el id) y status de respuesta.
+ */
+record EndpointKey(String method, String pattern, int status) {}
@@ -0,0 +1,62 @@
+package edu.espe.springlab.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HISTOGRAMA DE LATENCIA DE UN ENDPOINT (método + ruta + status)
+ * 
+ * - El registro de cada petición usa un Recorder de HdrHistogram
+ *   (sin bloqueos para los hilos de Tomcat)
+ * - Al pedir un snapshot, el intervalo acumulado se suma al histograma
+ *   total; solo esta lectura se sincroniza
+ * - Los valores se registran en nanosegundos con 3 dígitos significativos
+ */
+class EndpointLatency {
+
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private final LongAdder count = new LongAdder();
+    private final long createdNanos = System.nanoTime();
+
+    // Estado del snapshot anterior (para la tasa reciente)
+    private Histogram interval;
+    private long lastCount;
+    private long lastSnapshotNanos = createdNanos;
+
+    void record(long nanos) {
+        recorder.recordValue(Math.max(nanos, 0));
+        count.increment();
+    }
+
+    synchronized LatencyStats snapshot(EndpointKey key) {
+        interval = interval == null ? recorder.getIntervalHistogram() : recorder.getIntervalHistogram(interval);
+        total.add(interval);
+
+        long now = System.nanoTime();
+        long currentCount = count.sum();
+        double recentRate = ratePerSecond(currentCount - lastCount, now - lastSnapshotNanos);
+        double overallRate = ratePerSecond(currentCount, now - createdNanos);
+        lastCount = currentCount;
+        lastSnapshotNanos = now;
+
+        return new LatencyStats(
+                key.method(), key.pattern(), key.status(), total.getTotalCount(),
+                overallRate, recentRate,
+                millis(total.getValueAtPercentile(50.0)),
+                millis(total.getValueAtPercentile(90.0)),
+                millis(total.getValueAtPercentile(99.0)),
+                millis(total.getValueAtPercentile(99.9)),
+                millis(total.getMaxValue()));
+    }
+
+    private static double ratePerSecond(long requests, long elapsedNanos) {
+        return elapsedNanos <= 0 ? 0 : requests * 1_000_000_000d / elapsedNanos;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
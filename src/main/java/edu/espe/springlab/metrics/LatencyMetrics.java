@@ -0,0 +1,39 @@
+package edu.espe.springlab.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * REGISTRO DE LATENCIAS POR ENDPOINT
+ * 
+ * Mantiene un histograma por (método, ruta, status).
+ * record() es llamado por RequestLoggingInterceptor en cada petición;
+ * snapshot() es usado por MetricsController para exponer los percentiles.
+ */
+@Component
+public class LatencyMetrics {
+
+    private final ConcurrentMap<EndpointKey, EndpointLatency> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String method, String pattern, int status, long nanos) {
+        EndpointKey key = new EndpointKey(method, pattern, status);
+        EndpointLatency latency = endpoints.get(key);
+        if (latency == null) {
+            latency = endpoints.computeIfAbsent(key, k -> new EndpointLatency());
+        }
+        latency.record(nanos);
+    }
+
+    public List<LatencyStats> snapshot() {
+        return endpoints.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparing(LatencyStats::pattern)
+                        .thenComparing(LatencyStats::method)
+                        .thenComparingInt(LatencyStats::status))
+                .toList();
+    }
+}
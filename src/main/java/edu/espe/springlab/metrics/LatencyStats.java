@@ -0,0 +1,22 @@
+package edu.espe.springlab.metrics;
+
+/**
+ * DTO DE SALIDA - Latencia de un endpoint
+ * 
+ * - count: Peticiones registradas
+ * - ratePerSecond: Tasa promedio desde el arranque
+ * - recentRatePerSecond: Tasa desde la consulta anterior de métricas
+ * - p50Ms ... maxMs: Percentiles de latencia en milisegundos
+ */
+public record LatencyStats(
+        String method,
+        String pattern,
+        int status,
+        long count,
+        double ratePerSecond,
+        double recentRatePerSecond,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs) {}
@@ -0,0 +1,82 @@
+package edu.espe.springlab.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LÍMITE DE CONCURRENCIA ADAPTATIVO (AIMD)
+ * 
+ * Controla cuántas peticiones se procesan a la vez. El límite se ajusta
+ * según la latencia observada:
+ * - Aumento aditivo: +1 cuando una petición termina por debajo de la
+ *   latencia objetivo y el límite se estaba usando (>= la mitad ocupada)
+ * - Disminución multiplicativa: límite * backoffRatio cuando una petición
+ *   supera la latencia objetivo (como máximo una vez por cada
+ *   targetLatency, para que una ráfaga lenta no lo lleve al mínimo de golpe)
+ * 
+ * Todo el estado son contadores atómicos; no hay colas ni locks.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecrease = new AtomicLong();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long targetLatencyNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Configuracion invalida del limite de concurrencia");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+        this.lastDecrease.set(System.nanoTime() - targetLatencyNanos);
+    }
+
+    /**
+     * Reserva un lugar si hay capacidad.
+     * @return false si ya hay "limit" peticiones en curso
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar y ajusta el límite con la latencia de la petición.
+     */
+    public void release(long latencyNanos) {
+        int before = inFlight.getAndDecrement();
+        if (latencyNanos > targetLatencyNanos) {
+            long now = System.nanoTime();
+            long last = lastDecrease.get();
+            if (now - last >= targetLatencyNanos && lastDecrease.compareAndSet(last, now)) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+            }
+        } else {
+            limit.updateAndGet(l -> l < maxLimit && before * 2 >= l ? l + 1 : l);
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,191 @@
+package edu.espe.springlab.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CONFIGURACIÓN DE RATE LIMITING Y LOAD SHEDDING (app.rate-limit.*)
+ * 
+ * - enabled: Activa los interceptores (default: false)
+ * - client-header: Header que identifica al cliente (ej: X-Client-Id);
+ *   solo se confía en él si la petición llega desde un trusted-proxies
+ * - trusted-proxies: IPs de los proxies que fijan client-header
+ *   (default: ninguno, el cliente es el usuario autenticado o la IP remota)
+ * - default-route: Límite para las rutas sin configuración propia
+ * - routes: Límites por método + patrón de ruta del handler
+ *   (ej: GET /api/students, POST /api/students/import)
+ * - concurrency: Límite adaptativo de peticiones en curso
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled;
+    private String clientHeader;
+    private List<String> trustedProxies = new ArrayList<>();
+    private Route defaultRoute = new Route();
+    private List<Route> routes = new ArrayList<>();
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * Límite de una ruta: ratePerSecond tokens por segundo con ráfagas de hasta burst.
+     * method vacío = cualquier método.
+     */
+    public static class Route {
+        private String method;
+        private String pattern;
+        private double ratePerSecond = 100;
+        private int burst = 200;
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        public void setRatePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    /**
+     * Límite de concurrencia adaptativo y umbral de la cola del pool JDBC.
+     */
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private long targetLatencyMs = 250;
+        private double backoffRatio = 0.9;
+        // Hilos esperando conexión en Hikari por encima de los cuales se responde 503 (0 = sin límite)
+        private int maxPendingConnections = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public long getTargetLatencyMs() {
+            return targetLatencyMs;
+        }
+
+        public void setTargetLatencyMs(long targetLatencyMs) {
+            this.targetLatencyMs = targetLatencyMs;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public int getMaxPendingConnections() {
+            return maxPendingConnections;
+        }
+
+        public void setMaxPendingConnections(int maxPendingConnections) {
+            this.maxPendingConnections = maxPendingConnections;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    public void setClientHeader(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public Route getDefaultRoute() {
+        return defaultRoute;
+    }
+
+    public void setDefaultRoute(Route defaultRoute) {
+        this.defaultRoute = defaultRoute;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Concurrency concurrency) {
+        this.concurrency = concurrency;
+    }
+}
@@ -0,0 +1,52 @@
+package edu.espe.springlab.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TOKEN BUCKET SIN BLOQUEOS (GCRA)
+ * 
+ * Implementa el "Generic Cell Rate Algorithm", equivalente a un token bucket
+ * pero con un solo long de estado: el instante teórico de llegada (TAT).
+ * 
+ * - emissionInterval = 1s / ratePerSecond (costo de un token)
+ * - tolerance = emissionInterval * (burst - 1) (ráfaga permitida)
+ * 
+ * Una petición en el instante t se acepta si t >= TAT - tolerance; al
+ * aceptarla TAT avanza a max(TAT, t) + emissionInterval. La actualización
+ * es un compareAndSet: no hay locks ni hilos de recarga.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+
+    // Instante teórico de llegada de la próxima petición (System.nanoTime)
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("ratePerSecond debe ser > 0 y burst >= 1");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Intenta consumir un token.
+     * @return 0 si se aceptó; si no, nanosegundos hasta que haya un token
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long allowAt = tat - toleranceNanos;
+            if (nowNanos - allowAt < 0) {
+                return allowAt - nowNanos;
+            }
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package edu.espe.springlab.repository;
+
+/**
+ * PROYECCIÓN - Id, nombre y versión de un estudiante
+ * 
+ * Usada para construir el índice de búsqueda por nombre
+ * sin cargar entidades completas (la versión evita que la carga
+ * pise un cambio más nuevo ya indexado).
+ */
+public interface StudentNameView {
+    Long getId();
+
+    String getFullName();
+
+    Long getVersion();
+}
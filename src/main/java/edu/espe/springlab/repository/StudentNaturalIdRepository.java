@@ -0,0 +1,22 @@
+package edu.espe.springlab.repository;
+
+import edu.espe.springlab.domain.Student;
+
+import java.util.Optional;
+
+/**
+ * BÚSQUEDAS POR EMAIL (IDENTIFICADOR NATURAL)
+ * 
+ * Fragmento de StudentRepository: en lugar de las consultas derivadas
+ * (select ... where email = ?), usa la API de natural id de Hibernate,
+ * que resuelve email → id con el cache de segundo nivel y luego carga la
+ * entidad por id (también desde el cache). Con ambos en memoria no hay SQL.
+ */
+public interface StudentNaturalIdRepository {
+
+    //Buscar un estudiante por email
+    Optional<Student> findByEmail(String email);
+
+    //Responder si existe el estudiante con ese email
+    boolean existsByEmail(String email);
+}
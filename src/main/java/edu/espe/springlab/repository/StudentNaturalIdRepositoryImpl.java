@@ -0,0 +1,41 @@
+package edu.espe.springlab.repository;
+
+import edu.espe.springlab.domain.Student;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementación del fragmento StudentNaturalIdRepository
+ * (Spring Data la detecta por el sufijo Impl).
+ *
+ * SUPPORTS: dentro de una transacción se une a ella; sin transacción
+ * solo abre una sesión (sin transacción real), así con réplicas de lectura
+ * la consulta va al primario y no llena el cache de natural id con datos
+ * de una réplica atrasada.
+ */
+class StudentNaturalIdRepositoryImpl implements StudentNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    StudentNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<Student> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Student.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+}
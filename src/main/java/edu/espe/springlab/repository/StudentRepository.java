@@ -1,15 +1,151 @@
 package edu.espe.springlab.repository;
 
 import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentListVersion;
+import edu.espe.springlab.dto.StudentResponse;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface StudentRepository extends JpaRepository<Student, Long> {
-    //Buscar un estudiante por email
-    Optional<Student> findByEmail(String email);
-    //Responder si existe el estudiante con ese email
-    boolean existsByEmail(String email);
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentNaturalIdRepository {
+    //findByEmail / existsByEmail: por natural id con cache (StudentNaturalIdRepository)
+
+    //Emails (de la lista recibida) que ya existen, en una sola consulta
+    @Query("select s.email from Student s where s.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // ==================== PROYECCIONES DE LECTURA ====================
+    // Llenan StudentResponse directamente desde la consulta (constructor JPQL):
+    // no se crean entidades administradas ni snapshots para dirty-checking
+    // active nulo (filas antiguas) = activo, el DTO lo guarda como boolean
+    // readOnly: llamadas sin transaccion (ej: list) leen de una replica si hay;
+    // dentro de una transaccion de escritura se unen a ella (primario)
+
+    //Estudiante por id, proyectado al DTO
+    //Sin readOnly: llena la cache de estudiantes (getById), se lee del primario
+    @Query("select new edu.espe.springlab.dto.StudentResponse(s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt) "
+            + "from Student s where s.id = :id")
+    Optional<StudentResponse> findResponseById(@Param("id") Long id);
+
+    //Todos los estudiantes, proyectados al DTO
+    @Query("select new edu.espe.springlab.dto.StudentResponse(s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt) "
+            + "from Student s order by s.id")
+    @Transactional(readOnly = true)
+    List<StudentResponse> findAllResponses();
+
+    //Varios estudiantes por id, proyectados al DTO (sin orden garantizado)
+    @Query("select new edu.espe.springlab.dto.StudentResponse(s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt) "
+            + "from Student s where s.id in :ids")
+    @Transactional(readOnly = true)
+    List<StudentResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    //Varios estudiantes por email, proyectados al DTO (sin orden garantizado)
+    //Sin distinguir mayusculas en cualquier BD: los emails recibidos deben venir en minusculas
+    @Query("select new edu.espe.springlab.dto.StudentResponse(s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt) "
+            + "from Student s where lower(s.email) in :emails")
+    @Transactional(readOnly = true)
+    List<StudentResponse> findResponsesByLowerEmailIn(@Param("emails") Collection<String> emails);
+
+    //Validador de la coleccion: total de filas y ultima modificacion
+    //(no carga filas; cambia con cada alta, cambio o borrado)
+    //Cacheable: se responde desde memoria hasta la proxima escritura en students
+    //(por eso sin readOnly: el resultado cacheado se lee del primario, no de una replica atrasada)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select new edu.espe.springlab.dto.StudentListVersion(count(s), max(s.updatedAt)) from Student s")
+    StudentListVersion findListVersion();
+
+    //Pagina keyset: estudiantes con id mayor al cursor, ordenados por id
+    //(el tamaño lo define el Pageable, sin consulta de conteo)
+    @Query("select new edu.espe.springlab.dto.StudentResponse(s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt) "
+            + "from Student s where s.id > :afterId order by s.id")
+    @Transactional(readOnly = true)
+    List<StudentResponse> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ==================== CAMBIO MASIVO DE ESTADO ====================
+
+    //Candidatos del filtro que aun no estan en el estado pedido (keyset por id)
+    //Los filtros nulos se ignoran; domainPattern tiene la forma '%@dominio'
+    //active nulo (filas antiguas) cuenta como activo, igual que en el DTO
+    @Query("select new edu.espe.springlab.dto.StudentResponse(s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt) "
+            + "from Student s where s.id > :afterId and coalesce(s.active, true) <> :active "
+            + "and (:birthDateFrom is null or s.birthDate >= :birthDateFrom) "
+            + "and (:birthDateTo is null or s.birthDate <= :birthDateTo) "
+            + "and (:domainPattern is null or lower(s.email) like :domainPattern) "
+            + "order by s.id")
+    List<StudentResponse> findStatusCandidates(@Param("afterId") Long afterId,
+                                               @Param("active") Boolean active,
+                                               @Param("birthDateFrom") LocalDate birthDateFrom,
+                                               @Param("birthDateTo") LocalDate birthDateTo,
+                                               @Param("domainPattern") String domainPattern,
+                                               Pageable pageable);
+
+    //UPDATE por conjunto: solo cambia las filas que siguen en la version leida
+    //(las que otra peticion modifico no coinciden y se reportan como conflicto)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Student s set s.active = :active, s.version = s.version + 1, s.updatedAt = :now "
+            + "where s.id in :ids and s.version = :version and coalesce(s.active, true) <> :active")
+    int updateActiveIfVersion(@Param("ids") Collection<Long> ids,
+                              @Param("version") Long version,
+                              @Param("active") Boolean active,
+                              @Param("now") Instant now);
+
+    // ==================== ESTADISTICAS (RECONTEO) ====================
+    // Cada fila del resultado es [clave, cantidad]
+
+    //Estudiantes por estado (active)
+    @Query("select s.active, count(s) from Student s group by s.active")
+    List<Object[]> countByActive();
+
+    //Estudiantes por año de nacimiento (null = sin fecha)
+    @Query("select extract(year from s.birthDate), count(s) from Student s group by extract(year from s.birthDate)")
+    List<Object[]> countByBirthYear();
+
+    //Estudiantes por dominio de email (en minusculas)
+    @Query("select substring(lower(s.email), locate('@', s.email) + 1), count(s) from Student s "
+            + "group by substring(lower(s.email), locate('@', s.email) + 1)")
+    List<Object[]> countByEmailDomain();
+
+    //Recorre los estudiantes (todos o solo activos/inactivos) para la exportacion
+    //active nulo (filas antiguas) se filtra y se exporta como activo
+    //Cada fila es [id, fullName, email, birthDate, active, version, updatedAt]
+    //(el orden de ExportColumn): se escribe directo a la salida, sin crear el DTO
+    //Cursor de solo lectura, 500 filas por viaje (en MySQL requiere useCursorFetch=true)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s.id, s.fullName, s.email, s.birthDate, coalesce(s.active, true), s.version, s.updatedAt "
+            + "from Student s where (:active is null or coalesce(s.active, true) = :active) order by s.id")
+    Stream<Object[]> streamRowsByActive(@Param("active") Boolean active);
+
+    //Recorre todos los emails (carga inicial del indice de emails)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select s.email from Student s")
+    Stream<String> streamAllEmails();
+
+    //Recorre id y nombre de todos los estudiantes (carga del indice de busqueda)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s.id as id, s.fullName as fullName, s.version as version from Student s")
+    Stream<StudentNameView> streamAllNames();
 
     // ==================== MÉTODOS PARA EXAMEN (COMENTADOS) ====================
     // Spring Data JPA genera la implementación automáticamente
@@ -19,10 +155,8 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findByActiveTrue();
     */
 
-    /*
-    // 4. BUSCAR POR NOMBRE - Query Method con LIKE (5 min)
-    List<Student> findByFullNameContainingIgnoreCase(String name);
-    */
+    // 4. BUSCAR POR NOMBRE → implementado con StudentNameIndex (trigramas en memoria),
+    //    un LIKE '%texto%' obligaria a recorrer toda la tabla
 
     // NOTA: Para paginación (funcionalidad 5) no necesitas agregar nada,
     // JpaRepository ya incluye: Page<Student> findAll(Pageable pageable)
@@ -0,0 +1,15 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.service.export.ExportColumn;
+import edu.espe.springlab.service.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public interface StudentExportService {
+
+    //Escribe los estudiantes (filtrados por active si no es null) en el stream y devuelve las filas escritas
+    long export(ExportFormat format, List<ExportColumn> columns, Boolean active, boolean gzip, OutputStream out)
+            throws IOException;
+}
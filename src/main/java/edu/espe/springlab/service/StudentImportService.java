@@ -0,0 +1,17 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.dto.StudentImportReport;
+import edu.espe.springlab.dto.StudentRequestData;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+public interface StudentImportService {
+
+    //Importar estudiantes recibidos como arreglo JSON
+    StudentImportReport importRows(List<StudentRequestData> rows);
+
+    //Importar estudiantes desde un CSV con cabecera (fullName,email,birthDate)
+    StudentImportReport importCsv(Reader csv) throws IOException;
+}
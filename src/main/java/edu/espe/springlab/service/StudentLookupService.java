@@ -0,0 +1,10 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.dto.StudentLookupRequest;
+import edu.espe.springlab.dto.StudentLookupResponse;
+
+public interface StudentLookupService {
+
+    //Leer varios estudiantes por id o por email, en el orden pedido
+    StudentLookupResponse lookup(StudentLookupRequest request);
+}
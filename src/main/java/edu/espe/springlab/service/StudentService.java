@@ -1,7 +1,10 @@
 package edu.espe.springlab.service;
 
+import edu.espe.springlab.dto.StudentListVersion;
+import edu.espe.springlab.dto.StudentPage;
 import edu.espe.springlab.dto.StudentRequestData;
 import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.dto.StudentSearchPage;
 
 import java.util.List;
 
@@ -16,6 +19,15 @@ public interface StudentService {
     //Listar todos los estudiantes
     List<StudentResponse> list();
 
+    //Version de la coleccion (conteo + ultima modificacion) para ETag / Last-Modified
+    StudentListVersion listVersion();
+
+    //Listar por paginas usando un cursor opaco (keyset sobre el id)
+    StudentPage listPage(String cursor, Integer size);
+
+    //Buscar por nombre (sin distinguir tildes ni mayusculas), ordenado por relevancia
+    StudentSearchPage searchByName(String name, Integer page, Integer size);
+
     //Cambiar estado del estudiante
     StudentResponse deactivate(Long id);
 
@@ -31,9 +43,6 @@ public interface StudentService {
     // 3. Listar solo activos
     List<StudentResponse> listActive();
 
-    // 4. Buscar por nombre
-    List<StudentResponse> searchByName(String name);
-
     // 5. Paginación (requiere import: org.springframework.data.domain.Page y Pageable)
     Page<StudentResponse> listPaginated(Pageable pageable);
 
@@ -0,0 +1,10 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.dto.StudentStatusChangeReport;
+import edu.espe.springlab.dto.StudentStatusChangeRequest;
+
+public interface StudentStatusService {
+
+    //Activar o desactivar muchos estudiantes (por lista de ids o por filtro)
+    StudentStatusChangeReport changeStatus(StudentStatusChangeRequest request);
+}
@@ -0,0 +1,123 @@
+package edu.espe.springlab.service.coalesce;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SINGLE-FLIGHT: UNA SOLA CARGA POR CLAVE
+ * 
+ * Si varios hilos piden la misma clave al mismo tiempo, solo el primero
+ * (líder) ejecuta la carga; el resto espera su CompletableFuture y recibe
+ * el mismo resultado (o la misma excepción).
+ * 
+ * VENTANA DE COALESCENCIA (windowMillis):
+ * El resultado del líder se sigue compartiendo durante la ventana después
+ * de terminar. Así una ráfaga que llega justo detrás de la carga tampoco
+ * va a la BD. Con ventana 0 solo se comparten las cargas en curso.
+ * 
+ * forget(key) descarta la carga en curso o reciente (ej: después de una
+ * escritura) para que el siguiente pedido vuelva a leer.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Call<V>> calls = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    // Contadores: cargas ejecutadas y pedidos que reutilizaron otra carga
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    // Carga en curso o terminada (con el instante en que terminó)
+    private static final class Call<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long completedAt;
+
+        boolean reusable(long now, long windowNanos) {
+            if (!future.isDone()) {
+                return true;
+            }
+            return !future.isCompletedExceptionally() && now - completedAt <= windowNanos;
+        }
+    }
+
+    /**
+     * Ejecuta loader para la clave o se une a la carga existente.
+     * Las excepciones del líder se relanzan en todos los que esperaban.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        while (true) {
+            Call<V> existing = calls.get(key);
+            if (existing != null && existing.reusable(System.nanoTime(), windowNanos)) {
+                shared.increment();
+                return await(existing);
+            }
+            Call<V> call = new Call<>();
+            boolean leader = existing == null
+                    ? calls.putIfAbsent(key, call) == null
+                    : calls.replace(key, existing, call);
+            if (leader) {
+                return load(key, call, loader);
+            }
+        }
+    }
+
+    // Descarta la carga de la clave (los que ya esperaban reciben su resultado)
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    public void forgetAll() {
+        calls.clear();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getShared() {
+        return shared.sum();
+    }
+
+    private V load(K key, Call<V> call, Supplier<V> loader) {
+        loads.increment();
+        try {
+            V value = loader.get();
+            call.completedAt = System.nanoTime();
+            call.future.complete(value);
+            if (windowNanos == 0) {
+                calls.remove(key, call);
+            } else {
+                CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS)
+                        .execute(() -> calls.remove(key, call));
+            }
+            return value;
+        } catch (RuntimeException | Error ex) {
+            calls.remove(key, call);
+            call.future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private static <V> V await(Call<V> call) {
+        try {
+            return call.future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package edu.espe.springlab.service.coalesce;
+
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * COALESCENCIA DE LECTURAS DE ESTUDIANTES
+ * 
+ * Agrupa lecturas idénticas y concurrentes en una sola consulta:
+ * - byId: fallos de caché de GET /api/students/{id} (clave = id)
+ * - list: GET /api/students (clave única)
+ * 
+ * Evita el "dogpile" sobre la BD cuando expira una entrada de caché o
+ * después de un despliegue. La ventana se configura con
+ * app.students.coalesce-window-ms.
+ * 
+ * Cada escritura confirmada (StudentChangedEvent, después del COMMIT)
+ * descarta las cargas afectadas, así ninguna lectura posterior a la
+ * escritura recibe un resultado anterior a ella.
+ */
+@Component
+public class StudentReadCoalescer {
+
+    private static final String LIST_KEY = "all";
+
+    private final SingleFlight<Long, StudentResponse> byId;
+    private final SingleFlight<String, List<StudentResponse>> list;
+
+    public StudentReadCoalescer(@Value("${app.students.coalesce-window-ms:20}") long windowMillis) {
+        this.byId = new SingleFlight<>(windowMillis);
+        this.list = new SingleFlight<>(windowMillis);
+    }
+
+    public StudentResponse byId(Long id, Supplier<StudentResponse> loader) {
+        return byId.execute(id, loader);
+    }
+
+    public List<StudentResponse> list(Supplier<List<StudentResponse>> loader) {
+        return list.execute(LIST_KEY, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        byId.forget(event.student().id());
+        list.forgetAll();
+    }
+
+    public SingleFlight<Long, StudentResponse> getByIdFlight() {
+        return byId;
+    }
+
+    public SingleFlight<String, List<StudentResponse>> getListFlight() {
+        return list;
+    }
+}
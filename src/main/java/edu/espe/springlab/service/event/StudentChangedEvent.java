@@ -0,0 +1,28 @@
+package edu.espe.springlab.service.event;
+
+import edu.espe.springlab.dto.StudentResponse;
+
+/**
+ * EVENTO DE CAMBIO DE ESTUDIANTE
+ * 
+ * Lo publican los servicios después de guardar un estudiante
+ * (ApplicationEventPublisher). Los componentes que mantienen estado
+ * derivado (índices en memoria, etc.) lo escuchan con @EventListener.
+ * 
+ * CAMPOS:
+ * - type: CREATED o UPDATED
+ * - student: Estado del estudiante después del cambio
+ * - previousActive: Estado 'active' anterior (null en CREATED)
+ */
+public record StudentChangedEvent(Type type, StudentResponse student, Boolean previousActive) {
+
+    public enum Type { CREATED, UPDATED }
+
+    public static StudentChangedEvent created(StudentResponse student) {
+        return new StudentChangedEvent(Type.CREATED, student, null);
+    }
+
+    public static StudentChangedEvent updated(StudentResponse student, Boolean previousActive) {
+        return new StudentChangedEvent(Type.UPDATED, student, previousActive);
+    }
+}
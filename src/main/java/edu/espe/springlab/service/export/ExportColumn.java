@@ -0,0 +1,70 @@
+package edu.espe.springlab.service.export;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * COLUMNAS EXPORTABLES DE UN ESTUDIANTE
+ * El nombre de cada columna es el mismo campo de StudentResponse.
+ *
+ * El orden de las constantes es el orden de las columnas de
+ * StudentRepository.streamRowsByActive: cada columna lee su valor de la
+ * fila por posición. El nombre JSON va pre-codificado (SerializedString),
+ * así el generador no lo vuelve a escapar en cada fila.
+ */
+public enum ExportColumn {
+    ID("id"),
+    FULL_NAME("fullName"),
+    EMAIL("email"),
+    BIRTH_DATE("birthDate"),
+    ACTIVE("active"),
+    VERSION("version"),
+    UPDATED_AT("updatedAt");
+
+    private final String field;
+    private final SerializedString jsonName;
+
+    ExportColumn(String field) {
+        this.field = field;
+        this.jsonName = new SerializedString(field);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public SerializedString getJsonName() {
+        return jsonName;
+    }
+
+    // Valor de la columna en una fila [id, fullName, email, birthDate, active, version, updatedAt]
+    public Object valueOf(Object[] row) {
+        return row[ordinal()];
+    }
+
+    /**
+     * Convierte ?columns=id,email,... en columnas (en el orden pedido, sin repetidas).
+     * Vacío = todas las columnas.
+     * @throws BadRequestException si alguna columna no existe
+     */
+    public static List<ExportColumn> parse(String columns) {
+        if (!StringUtils.hasText(columns)) {
+            return List.of(values());
+        }
+        Set<ExportColumn> selected = new LinkedHashSet<>();
+        for (String name : columns.split(",")) {
+            selected.add(Arrays.stream(values())
+                    .filter(c -> c.field.equalsIgnoreCase(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException("Columna desconocida: " + name.trim())));
+        }
+        return new ArrayList<>(selected);
+    }
+}
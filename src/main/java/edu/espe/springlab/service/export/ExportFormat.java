@@ -0,0 +1,43 @@
+package edu.espe.springlab.service.export;
+
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * FORMATOS DE EXPORTACIÓN
+ * - CSV: Cabecera + una fila por estudiante (RFC 4180)
+ * - NDJSON: Un objeto JSON por línea
+ */
+public enum ExportFormat {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // Convierte el parámetro ?format= (sin distinguir mayúsculas)
+    public static ExportFormat parse(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Formato no soportado: " + value.toLowerCase(Locale.ROOT) + " (csv o ndjson)");
+    }
+}
@@ -0,0 +1,135 @@
+package edu.espe.springlab.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import edu.espe.springlab.dto.StudentResponse;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ESCRITURA JSON DE ESTUDIANTES SIN REFLEXIÓN
+ *
+ * Escribe un estudiante campo por campo sobre el JsonGenerator, sin pasar
+ * por el BeanSerializer de Jackson (que recorre los getters por reflexión,
+ * encapsula los valores y formatea cada fecha de nuevo):
+ * - Nombres de campo pre-codificados (SerializedString de ExportColumn)
+ * - active y los números se escriben como primitivos
+ * - birthDate sale de una caché de fechas ya formateadas (ISO-8601)
+ * - updatedAt se escribe con Instant.toString() (el mismo formato ISO que Jackson)
+ *
+ * Lo usan StudentResponseSerializer (respuestas JSON/CBOR/Smile) y la
+ * exportación NDJSON, que escribe las filas del cursor sin crear el DTO.
+ */
+public final class StudentJsonWriter {
+
+    // Fechas de nacimiento distintas que se guardan ya formateadas (~270 años de días);
+    // con la caché llena las fechas nuevas se formatean sin guardarse
+    static final int MAX_CACHED_DATES = 100_000;
+
+    private static final ConcurrentMap<LocalDate, SerializedString> DATES = new ConcurrentHashMap<>();
+
+    private StudentJsonWriter() {}
+
+    /**
+     * Escribe un StudentResponse como objeto JSON (mismos campos y orden que el record).
+     */
+    public static void write(JsonGenerator gen, StudentResponse student) throws IOException {
+        gen.writeStartObject(student);
+        writeNumberField(gen, ExportColumn.ID, student.id());
+        writeStringField(gen, ExportColumn.FULL_NAME, student.fullName());
+        writeStringField(gen, ExportColumn.EMAIL, student.email());
+        gen.writeFieldName(ExportColumn.BIRTH_DATE.getJsonName());
+        writeDate(gen, student.birthDate());
+        gen.writeFieldName(ExportColumn.ACTIVE.getJsonName());
+        gen.writeBoolean(student.active());
+        writeNumberField(gen, ExportColumn.VERSION, student.version());
+        gen.writeFieldName(ExportColumn.UPDATED_AT.getJsonName());
+        writeInstant(gen, student.updatedAt());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Escribe una fila del cursor (ver StudentRepository.streamRowsByActive)
+     * como objeto JSON con las columnas pedidas.
+     */
+    public static void writeRow(JsonGenerator gen, Object[] row, List<ExportColumn> columns) throws IOException {
+        gen.writeStartObject();
+        for (ExportColumn column : columns) {
+            gen.writeFieldName(column.getJsonName());
+            Object value = column.valueOf(row);
+            if (value == null) {
+                gen.writeNull();
+            } else if (value instanceof Long number) {
+                gen.writeNumber(number);
+            } else if (value instanceof Boolean flag) {
+                gen.writeBoolean(flag);
+            } else if (value instanceof LocalDate date) {
+                writeDate(gen, date);
+            } else if (value instanceof Instant instant) {
+                writeInstant(gen, instant);
+            } else {
+                gen.writeString(value.toString());
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Fecha en formato ISO (yyyy-MM-dd), tomada de la caché si ya se formateó.
+     */
+    public static String formatDate(LocalDate date) {
+        return serializedDate(date).getValue();
+    }
+
+    public static void writeDate(JsonGenerator gen, LocalDate date) throws IOException {
+        if (date == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(serializedDate(date));
+        }
+    }
+
+    public static void writeInstant(JsonGenerator gen, Instant instant) throws IOException {
+        if (instant == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(instant.toString());
+        }
+    }
+
+    private static SerializableString serializedDate(LocalDate date) {
+        SerializedString cached = DATES.get(date);
+        if (cached != null) {
+            return cached;
+        }
+        SerializedString formatted = new SerializedString(date.toString());
+        if (DATES.size() < MAX_CACHED_DATES) {
+            DATES.putIfAbsent(date, formatted);
+        }
+        return formatted;
+    }
+
+    private static void writeNumberField(JsonGenerator gen, ExportColumn column, Long value) throws IOException {
+        gen.writeFieldName(column.getJsonName());
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeStringField(JsonGenerator gen, ExportColumn column, String value) throws IOException {
+        gen.writeFieldName(column.getJsonName());
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package edu.espe.springlab.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.StudentExportService;
+import edu.espe.springlab.service.export.ExportColumn;
+import edu.espe.springlab.service.export.ExportFormat;
+import edu.espe.springlab.service.export.StudentJsonWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * IMPLEMENTACIÓN DE LA EXPORTACIÓN DE ESTUDIANTES
+ *
+ * Recorre la tabla con un cursor JDBC de solo avance (fetch size 500) y
+ * escribe cada fila apenas llega, sin armar la lista en memoria: la memoria
+ * usada es la misma para mil o diez millones de filas.
+ *
+ * CONEXIONES:
+ * La exportación corre en el hilo asíncrono de StreamingResponseBody, fuera
+ * de la petición original; la transacción de solo lectura toma la conexión
+ * al empezar y la devuelve al pool apenas termina el recorrido (o si el
+ * cliente se desconecta y la escritura falla).
+ *
+ * FORMATOS:
+ * - CSV: cabecera con los nombres de las columnas, comillas solo si hacen falta
+ * - NDJSON: un objeto JSON por línea con las columnas pedidas
+ * Fechas en ISO-8601, valores nulos como campo vacío (CSV) o null (NDJSON).
+ *
+ * FILAS SIN DTO:
+ * El cursor devuelve cada estudiante como arreglo de columnas y se escribe
+ * directo a la salida (StudentJsonWriter en NDJSON); no se crea un
+ * StudentResponse por fila y las fechas de nacimiento salen de una caché
+ * de fechas ya formateadas.
+ */
+@Service
+public class StudentExportServiceImpl implements StudentExportService {
+
+    // Buffer de escritura (menos llamadas al socket / al compresor)
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StudentRepository repo;
+    private final ObjectMapper objectMapper;
+
+    // Constructor para inyección de dependencias
+    public StudentExportServiceImpl(StudentRepository repo, ObjectMapper objectMapper) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * EXPORTAR
+     * El stream de salida no se cierra (lo cierra el contenedor); con gzip
+     * se escribe el final del archivo comprimido antes de salir.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, List<ExportColumn> columns, Boolean active, boolean gzip,
+                       OutputStream out) throws IOException {
+        OutputStream target = new NonClosingOutputStream(out);
+        if (gzip) {
+            target = new GZIPOutputStream(target, BUFFER_SIZE);
+        }
+        try (Stream<Object[]> students = repo.streamRowsByActive(active)) {
+            Iterator<Object[]> rows = students.iterator();
+            return format == ExportFormat.CSV
+                    ? writeCsv(rows, columns, target)
+                    : writeNdjson(rows, columns, target);
+        }
+    }
+
+    // ==================== CSV ====================
+
+    private long writeCsv(Iterator<Object[]> rows, List<ExportColumn> columns, OutputStream target)
+            throws IOException {
+        long count = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).getField());
+            }
+            writer.write("\r\n");
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    Object value = columns.get(i).valueOf(row);
+                    if (value instanceof LocalDate date) {
+                        writer.write(StudentJsonWriter.formatDate(date));
+                    } else if (value != null) {
+                        writer.write(csvValue(value.toString()));
+                    }
+                }
+                writer.write("\r\n");
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Encierra el valor entre comillas si tiene comas, comillas o saltos de línea
+    static String csvValue(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    // ==================== NDJSON ====================
+
+    private long writeNdjson(Iterator<Object[]> rows, List<ExportColumn> columns, OutputStream target)
+            throws IOException {
+        long count = 0;
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(target)) {
+            gen.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                StudentJsonWriter.writeRow(gen, rows.next(), columns);
+                gen.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Evita que el escritor cierre el stream de la respuesta
+     * (cerrar el escritor sí completa el gzip y vacía los buffers).
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package edu.espe.springlab.service.impl;
+
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentImportReport;
+import edu.espe.springlab.dto.StudentImportResult;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.StudentImportService;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import edu.espe.springlab.service.index.StudentEmailIndex;
+import edu.espe.springlab.service.mapper.StudentMapper;
+import edu.espe.springlab.web.advice.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * IMPLEMENTACIÓN DE LA IMPORTACIÓN MASIVA DE ESTUDIANTES
+ *
+ * Carga miles de estudiantes en una sola petición (arreglo JSON o CSV).
+ *
+ * FLUJO POR LOTE (tamaño configurable: app.students.import.batch-size):
+ * 1. Valida cada fila con las mismas reglas de StudentRequestData
+ * 2. Descarta emails repetidos dentro de la misma importación
+ * 3. Verifica emails existentes con UNA consulta (IN) por lote
+ * 4. Persiste las filas válidas y hace flush + clear del lote: Hibernate
+ *    envía los INSERT en batch JDBC (hibernate.jdbc.batch_size)
+ * 5. Registra los emails nuevos en StudentEmailIndex y publica
+ *    un StudentChangedEvent por cada estudiante creado
+ *
+ * TRANSACCIONES: los pasos 3 y 4 corren en una transacción propia por lote
+ * (TransactionTemplate). Un lote confirmado no se pierde si falla otro, y
+ * mientras se lee el CSV del cliente no se retiene ninguna conexión del pool.
+ * Si otra petición registra uno de los emails entre la consulta IN y el
+ * flush, la restricción única hace fallar el lote: se reintenta fila por
+ * fila y la fila en conflicto se reporta como DUPLICATE.
+ * Los métodos no son @Transactional: dentro de una transacción del llamador
+ * los lotes se unen a ella y ya no se confirman por separado.
+ *
+ * NOTA: Student toma su id de una secuencia reservada en bloques, así que
+ * el id se conoce al persistir (sin una consulta extra por lote) y los
+ * INSERT se pueden agrupar. El clear evita que el contexto de persistencia
+ * crezca con cada lote.
+ *
+ * El resultado es un reporte por fila (CREATED / INVALID / DUPLICATE).
+ */
+@Service
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private final StudentRepository repo;
+    private final StudentEmailIndex emailIndex;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // Constructor para inyección de dependencias
+    public StudentImportServiceImpl(StudentRepository repo,
+                                    StudentEmailIndex emailIndex,
+                                    EntityManager entityManager,
+                                    Validator validator,
+                                    ApplicationEventPublisher events,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.students.import.batch-size:500}") int batchSize) {
+        this.repo = repo;
+        this.emailIndex = emailIndex;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.events = events;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * IMPORTAR DESDE JSON
+     * Procesa el arreglo recibido en lotes de batchSize filas
+     */
+    @Override
+    public StudentImportReport importRows(List<StudentRequestData> rows) {
+        ImportRun run = new ImportRun();
+        int rowNumber = 0;
+        for (StudentRequestData data : rows) {
+            run.add(new PendingRow(++rowNumber, data, List.of()));
+        }
+        return run.finish();
+    }
+
+    /**
+     * IMPORTAR DESDE CSV
+     * Lee el CSV línea por línea (la primera línea es la cabecera)
+     * y procesa cada lote apenas se completa, sin cargar todo el archivo.
+     * @throws BadRequestException si falta la cabecera o una columna requerida
+     */
+    @Override
+    public StudentImportReport importCsv(Reader csv) throws IOException {
+        BufferedReader reader = csv instanceof BufferedReader buffered ? buffered : new BufferedReader(csv);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new BadRequestException("El CSV esta vacio");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> columns = parseCsvLine(header);
+        int nameCol = requiredColumn(columns, "fullName");
+        int emailCol = requiredColumn(columns, "email");
+        int birthCol = indexOf(columns, "birthDate");
+
+        ImportRun run = new ImportRun();
+        int rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = parseCsvLine(line);
+            List<String> errors = new ArrayList<>();
+
+            LocalDate birthDate = null;
+            String birth = valueAt(values, birthCol);
+            if (birth != null) {
+                try {
+                    birthDate = LocalDate.parse(birth);
+                } catch (DateTimeParseException ex) {
+                    errors.add("birthDate: formato invalido (yyyy-MM-dd)");
+                }
+            }
+            StudentRequestData data = new StudentRequestData(valueAt(values, nameCol), valueAt(values, emailCol), birthDate);
+            run.add(new PendingRow(++rowNumber, data, errors));
+        }
+        return run.finish();
+    }
+
+    // Fila pendiente de procesar con los errores de lectura (si los hubo)
+    private record PendingRow(int row, StudentRequestData data, List<String> parseErrors) {}
+
+    /**
+     * Estado de una importación: acumula filas y procesa un lote
+     * cada vez que se llena.
+     */
+    private class ImportRun {
+        private final long start = System.nanoTime();
+        private final StudentImportReport report = new StudentImportReport();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<PendingRow> chunk = new ArrayList<>(batchSize);
+
+        void add(PendingRow row) {
+            chunk.add(row);
+            if (chunk.size() >= batchSize) {
+                importChunk();
+            }
+        }
+
+        StudentImportReport finish() {
+            importChunk();
+            report.finish(System.nanoTime() - start);
+            return report;
+        }
+
+        private void importChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            StudentImportResult[] results = new StudentImportResult[chunk.size()];
+
+            // 1. Validaciones de la fila y emails repetidos dentro de la importación
+            for (int i = 0; i < chunk.size(); i++) {
+                PendingRow row = chunk.get(i);
+                List<String> errors = validate(row);
+                if (!errors.isEmpty()) {
+                    results[i] = rejected(row, StudentImportResult.Status.INVALID, errors);
+                } else if (!seenEmails.add(normalize(row.data().email()))) {
+                    results[i] = rejected(row, StudentImportResult.Status.DUPLICATE,
+                            List.of("El email esta repetido en la importacion"));
+                }
+            }
+
+            // 2 y 3. Emails existentes + INSERT del lote en su propia transacción
+            Student[] created = new Student[chunk.size()];
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(results, created));
+            } catch (DataIntegrityViolationException ex) {
+                // Otra petición registró un email del lote después de la consulta IN
+                Arrays.fill(created, null);
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (results[i] == null) {
+                        insertRow(i, results, created);
+                    }
+                }
+            }
+
+            // 4. Reporte en el orden recibido (solo con lo ya confirmado)
+            for (int i = 0; i < chunk.size(); i++) {
+                PendingRow row = chunk.get(i);
+                if (results[i] == null) {
+                    Student student = created[i];
+                    results[i] = new StudentImportResult(row.row(), student.getEmail(), StudentImportResult.Status.CREATED,
+                            student.getId(), null);
+                    emailIndex.add(student.getEmail());
+                    events.publishEvent(StudentChangedEvent.created(StudentMapper.toResponse(student)));
+                }
+                report.add(results[i]);
+            }
+            chunk.clear();
+        }
+
+        /**
+         * Consulta los emails existentes con UNA consulta (IN) y persiste el
+         * resto: flush = INSERT en batch JDBC, clear = libera las entidades.
+         * Corre dentro de la transacción del lote.
+         */
+        private void insertChunk(StudentImportResult[] results, Student[] created) {
+            List<String> candidates = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (results[i] == null) {
+                    candidates.add(chunk.get(i).data().email());
+                }
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
+            Set<String> existing = new HashSet<>();
+            repo.findExistingEmails(candidates).forEach(e -> existing.add(normalize(e)));
+
+            List<Student> batch = new ArrayList<>(candidates.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                if (results[i] != null) {
+                    continue;
+                }
+                PendingRow row = chunk.get(i);
+                if (existing.contains(normalize(row.data().email()))) {
+                    results[i] = rejected(row, StudentImportResult.Status.DUPLICATE,
+                            List.of("El email ya esta registrado"));
+                } else {
+                    created[i] = newStudent(row.data());
+                    batch.add(created[i]);
+                }
+            }
+            if (!batch.isEmpty()) {
+                repo.saveAll(batch);
+                repo.flush();
+                entityManager.clear();
+            }
+        }
+
+        // Reintento de una fila en su propia transacción tras fallar el lote
+        private void insertRow(int i, StudentImportResult[] results, Student[] created) {
+            PendingRow row = chunk.get(i);
+            try {
+                created[i] = transactionTemplate.execute(status -> {
+                    Student student = repo.save(newStudent(row.data()));
+                    repo.flush();
+                    return student;
+                });
+            } catch (DataIntegrityViolationException ex) {
+                results[i] = rejected(row, StudentImportResult.Status.DUPLICATE,
+                        List.of("El email ya esta registrado"));
+            }
+        }
+    }
+
+    private static Student newStudent(StudentRequestData data) {
+        Student student = new Student();
+        student.setFullName(data.fullName());
+        student.setEmail(data.email());
+        student.setBirthDate(data.birthDate());
+        student.setActive(true);
+        return student;
+    }
+
+    // Aplica las validaciones de StudentRequestData a una fila
+    private List<String> validate(PendingRow row) {
+        List<String> errors = new ArrayList<>(row.parseErrors());
+        if (row.data() == null) {
+            errors.add("La fila esta vacia");
+            return errors;
+        }
+        for (ConstraintViolation<StudentRequestData> v : validator.validate(row.data())) {
+            errors.add(v.getPropertyPath() + ": " + v.getMessage());
+        }
+        return errors;
+    }
+
+    private static StudentImportResult rejected(PendingRow row, StudentImportResult.Status status, List<String> errors) {
+        String email = row.data() == null ? null : row.data().email();
+        return new StudentImportResult(row.row(), email, status, null, errors);
+    }
+
+    // Los emails se comparan sin distinguir mayúsculas (igual que la collation de MySQL)
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== LECTURA DE CSV ====================
+
+    private static int requiredColumn(List<String> header, String name) {
+        int index = indexOf(header, name);
+        if (index < 0) {
+            throw new BadRequestException("Falta la columna '" + name + "' en la cabecera del CSV");
+        }
+        return index;
+    }
+
+    private static int indexOf(List<String> header, String name) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Valor de la columna, o null si no existe o está vacío
+    private static String valueAt(List<String> values, int index) {
+        if (index < 0 || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Separa una línea CSV en columnas.
+     * Soporta campos entre comillas dobles, comas dentro de comillas
+     * y comillas escapadas ("").
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
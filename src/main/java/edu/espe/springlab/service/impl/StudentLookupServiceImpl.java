@@ -0,0 +1,139 @@
+package edu.espe.springlab.service.impl;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.datasource.ReadWriteRoutingDataSource;
+import edu.espe.springlab.dto.StudentLookupRequest;
+import edu.espe.springlab.dto.StudentLookupResponse;
+import edu.espe.springlab.dto.StudentLookupResult;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.StudentLookupService;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * IMPLEMENTACIÓN DE LA LECTURA POR LOTE
+ * 
+ * Reemplaza N llamadas a GET /api/students/{id} por una petición:
+ * 
+ * FLUJO:
+ * 1. Quita los valores repetidos (conservando el orden)
+ * 2. Por id: toma de la caché de estudiantes los que ya estén
+ * 3. Consulta el resto con IN (...) en lotes de app.students.lookup.chunk-size
+ *    (una sola transacción de solo lectura para todos los lotes)
+ * 4. Guarda en la caché lo leído (putIfAbsent: no pisa un valor más nuevo),
+ *    salvo que se haya leído de una réplica (podría estar atrasado)
+ * 5. Arma un resultado por posición de la petición, con found = false
+ *    para los valores que no existen
+ */
+@Service
+public class StudentLookupServiceImpl implements StudentLookupService {
+
+    private final StudentRepository repo;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+
+    // Constructor para inyección de dependencias
+    public StudentLookupServiceImpl(StudentRepository repo,
+                                    CacheManager cacheManager,
+                                    @Value("${app.students.lookup.chunk-size:500}") int chunkSize) {
+        this.repo = repo;
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * LEER POR LOTE
+     * @throws BadRequestException si no se envía exactamente una de las listas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StudentLookupResponse lookup(StudentLookupRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byEmails = request.getEmails() != null && !request.getEmails().isEmpty();
+        if (byIds == byEmails) {
+            throw new BadRequestException("Debe indicar una lista de ids o una de emails (no ambas)");
+        }
+        return byIds ? lookupIds(request.getIds()) : lookupEmails(request.getEmails());
+    }
+
+    private StudentLookupResponse lookupIds(List<Long> ids) {
+        if (ids.contains(null)) {
+            throw new BadRequestException("La lista de ids no puede tener valores nulos");
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS_CACHE);
+        Map<Long, StudentResponse> byId = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            StudentResponse cached = cache == null ? null : cache.get(id, StudentResponse.class);
+            if (cached != null) {
+                byId.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        int cacheHits = byId.size();
+
+        int queries = loadInChunks(missing, repo::findResponsesByIdIn, StudentResponse::id, byId);
+        if (cache != null && !ReadWriteRoutingDataSource.isReplicaTransaction()) {
+            missing.stream().filter(byId::containsKey).forEach(id -> cache.putIfAbsent(id, byId.get(id)));
+        }
+
+        List<StudentLookupResult> results = new ArrayList<>(ids.size());
+        ids.forEach(id -> results.add(new StudentLookupResult(id, null, byId.get(id))));
+        return new StudentLookupResponse(results, cacheHits, queries);
+    }
+
+    private StudentLookupResponse lookupEmails(List<String> emails) {
+        if (emails.contains(null)) {
+            throw new BadRequestException("La lista de emails no puede tener valores nulos");
+        }
+        // Un valor por email normalizado; la consulta compara con lower(email)
+        LinkedHashSet<String> distinct = new LinkedHashSet<>();
+        emails.forEach(email -> distinct.add(normalize(email)));
+
+        Map<String, StudentResponse> byEmail = new HashMap<>();
+        int queries = loadInChunks(new ArrayList<>(distinct), repo::findResponsesByLowerEmailIn,
+                student -> normalize(student.email()), byEmail);
+
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS_CACHE);
+        if (cache != null && !ReadWriteRoutingDataSource.isReplicaTransaction()) {
+            byEmail.values().forEach(student -> cache.putIfAbsent(student.id(), student));
+        }
+
+        List<StudentLookupResult> results = new ArrayList<>(emails.size());
+        emails.forEach(email -> results.add(new StudentLookupResult(null, email, byEmail.get(normalize(email)))));
+        return new StudentLookupResponse(results, 0, queries);
+    }
+
+    // Consulta los valores en lotes IN (...) y agrega los encontrados al mapa; devuelve las consultas hechas
+    private <K> int loadInChunks(List<K> keys,
+                                 Function<List<K>, List<StudentResponse>> query,
+                                 Function<StudentResponse, K> keyOf,
+                                 Map<K, StudentResponse> target) {
+        int queries = 0;
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            List<K> chunk = keys.subList(from, Math.min(from + chunkSize, keys.size()));
+            query.apply(chunk).forEach(student -> target.put(keyOf.apply(student), student));
+            queries++;
+        }
+        return queries;
+    }
+
+    // Los emails se comparan sin distinguir mayúsculas, con cualquier collation
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,15 +1,37 @@
 package edu.espe.springlab.service.impl;
 
+import edu.espe.springlab.config.CacheConfig;
 import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentListVersion;
+import edu.espe.springlab.dto.StudentPage;
 import edu.espe.springlab.dto.StudentRequestData;
 import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.dto.StudentSearchPage;
 import edu.espe.springlab.repository.StudentRepository;
 import edu.espe.springlab.service.StudentService;
+import edu.espe.springlab.service.coalesce.StudentReadCoalescer;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import edu.espe.springlab.service.index.StudentEmailIndex;
+import edu.espe.springlab.service.index.StudentNameIndex;
+import edu.espe.springlab.service.mapper.StudentMapper;
+import edu.espe.springlab.web.advice.BadRequestException;
 import edu.espe.springlab.web.advice.ConflictException;
 import edu.espe.springlab.web.advice.NotFoundException;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * IMPLEMENTACIÓN DEL SERVICIO DE ESTUDIANTES
@@ -22,107 +44,274 @@ import java.util.List;
  * - Convertir entre Entidades y DTOs
  * - Lanzar excepciones de negocio apropiadas
  * 
+ * CACHÉ (CacheConfig.STUDENTS_CACHE):
+ * - getById lee a través de la caché (solo va a la BD en un fallo)
+ * - Toda escritura (create, deactivate, ...) refresca la entrada con @CachePut
+ * 
+ * LECTURAS:
+ * - getById, list, listPage y searchByName usan proyecciones
+ *   (select new StudentResponse(...)) en transacciones de solo lectura:
+ *   no se crean entidades administradas ni snapshots de dirty-checking
+ * 
+ * COALESCENCIA:
+ * - getById (en fallos de caché) y list agrupan pedidos concurrentes
+ *   iguales en una sola consulta (StudentReadCoalescer)
+ * 
+ * EVENTOS:
+ * - Cada escritura publica un StudentChangedEvent para mantener
+ *   actualizados los índices en memoria (ej: búsqueda por nombre)
+ * 
  * PATRÓN: Service Layer (capa de servicio)
  * 
  * @Service - Marca esta clase como un servicio de Spring
  */
 @Service
 public class StudentServiceImpl implements StudentService {
+    // Tamaño de pagina por defecto y maximo para la paginacion por cursor
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    // Prefijo del cursor antes de codificarlo en Base64
+    private static final String CURSOR_PREFIX = "id:";
+
     // Repositorio inyectado por constructor
     private final StudentRepository repo;
 
+    // Indice en memoria de emails (evita existsByEmail para emails nuevos)
+    private final StudentEmailIndex emailIndex;
+
+    // Indice de trigramas para la busqueda por nombre
+    private final StudentNameIndex nameIndex;
+
+    // Publicador de eventos de cambio
+    private final ApplicationEventPublisher events;
+
+    // Agrupa lecturas concurrentes iguales (getById y list) en una sola consulta
+    private final StudentReadCoalescer coalescer;
+
     // Constructor para inyección de dependencias
-    public StudentServiceImpl(StudentRepository repo) {this.repo = repo;}
+    public StudentServiceImpl(StudentRepository repo,
+                              StudentEmailIndex emailIndex,
+                              StudentNameIndex nameIndex,
+                              ApplicationEventPublisher events,
+                              StudentReadCoalescer coalescer) {
+        this.repo = repo;
+        this.emailIndex = emailIndex;
+        this.nameIndex = nameIndex;
+        this.events = events;
+        this.coalescer = coalescer;
+    }
 
     /**
      * CREAR ESTUDIANTE
-     * 1. Valida que el email no exista
+     * 1. Valida que el email no exista (solo consulta la BD si el índice
+     *    de emails no puede descartarlo)
      * 2. Crea nueva entidad Student
-     * 3. Guarda en BD
-     * 4. Convierte a DTO y retorna
+     * 3. Guarda en BD con flush inmediato (si otra petición ganó la carrera
+     *    con el mismo email, la restricción UNIQUE se traduce a 409)
+     * 4. Registra el email en el índice y publica StudentChangedEvent
+     * 5. Convierte a DTO y retorna
      * @throws ConflictException si el email ya existe
      */
     @Override
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#result.id()")
     public StudentResponse create(StudentRequestData request) {
-        if(repo.existsByEmail(request.getEmail())) {
+        if(emailIndex.mightContain(request.email()) && repo.existsByEmail(request.email())) {
             throw new ConflictException("El email ya esta registrado");
         }
         Student student = new Student();
-        student.setFullName(request.getFullName());
-        student.setEmail(request.getEmail());
-        student.setBirthDate(request.getBirthDate());
+        student.setFullName(request.fullName());
+        student.setEmail(request.email());
+        student.setBirthDate(request.birthDate());
         student.setActive(true);
 
-        Student saved = repo.save(student);
-        return toResponse(saved);
+        Student saved;
+        try {
+            saved = repo.saveAndFlush(student);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("El email ya esta registrado");
+        }
+        emailIndex.add(saved.getEmail());
+        StudentResponse response = toResponse(saved);
+        events.publishEvent(StudentChangedEvent.created(response));
+        return response;
     }
 
     /**
      * OBTENER POR ID
      * Busca estudiante por ID y lanza excepción si no existe
+     * El resultado se guarda en caché (los 404 no se cachean)
+     * En un fallo de caché, los pedidos concurrentes del mismo id comparten
+     * una sola consulta. Sin @Transactional aquí: los que esperan no ocupan
+     * una conexión. Con réplicas de lectura la consulta va al primario: su
+     * resultado llena la caché y una réplica atrasada lo dejaría viejo.
      * @throws NotFoundException si no existe el estudiante
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public StudentResponse getById(Long id) {
-        Student student = repo.findById(id).orElseThrow(() -> new NotFoundException("Estudiante no encontrado"));
-        return toResponse(student);
+        return coalescer.byId(id, () -> repo.findResponseById(id)
+                .orElseThrow(() -> new NotFoundException("Estudiante no encontrado")));
     }
 
     /**
      * LISTAR TODOS
-     * Obtiene todos los estudiantes y los convierte a DTOs
-     * Usa Streams para mapear de Student a StudentResponse
+     * Obtiene todos los estudiantes ya proyectados a StudentResponse
+     * Los listados concurrentes comparten una sola consulta (lista inmutable)
      */
     @Override
     public List<StudentResponse> list() {
-        return repo.findAll().stream().map(this::toResponse).toList();
+        return coalescer.list(() -> List.copyOf(repo.findAllResponses()));
+    }
+
+    /**
+     * VERSIÓN DE LA COLECCIÓN
+     * Una sola consulta agregada (count + max(updatedAt)) que permite
+     * responder 304 en GET /api/students sin leer las filas
+     * Sin transacción de solo lectura: el resultado queda en el cache de
+     * consultas de Hibernate y debe venir del primario
+     */
+    @Override
+    public StudentListVersion listVersion() {
+        return repo.findListVersion();
+    }
+
+    /**
+     * LISTAR POR PAGINAS (KEYSET)
+     * 1. Decodifica el cursor (ultimo id entregado, 0 si es la primera pagina)
+     * 2. Consulta size + 1 filas con id mayor al cursor
+     * 3. Si sobra una fila, hay mas resultados y se genera el siguiente cursor
+     * El costo de cada pagina es constante, sin importar la posicion en la tabla.
+     * @throws BadRequestException si el cursor o el tamaño no son validos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StudentPage listPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long afterId = decodeCursor(cursor);
+
+        List<StudentResponse> rows = repo.findResponsesAfter(afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<StudentResponse> page = hasMore ? List.copyOf(rows.subList(0, pageSize)) : rows;
+
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).id()) : null;
+        return new StudentPage(page, nextCursor);
+    }
+
+    /**
+     * BUSCAR POR NOMBRE
+     * 1. Obtiene del índice de trigramas los ids de la página pedida
+     *    (ya ordenados por relevancia)
+     * 2. Carga esos estudiantes con una sola consulta (proyección por id)
+     * 3. Devuelve los resultados en el orden del índice
+     * El costo no depende del tamaño de la tabla (no hay LIKE '%texto%').
+     * @throws BadRequestException si la página o el tamaño no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StudentSearchPage searchByName(String name, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new BadRequestException("La pagina no puede ser negativa");
+        }
+        int pageSize = resolvePageSize(size);
+
+        StudentNameIndex.SearchHits hits = nameIndex.search(name, pageNumber, pageSize);
+        Map<Long, StudentResponse> byId = hits.ids().isEmpty() ? Map.of() : repo.findResponsesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(StudentResponse::id, Function.identity()));
+        List<StudentResponse> items = hits.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new StudentSearchPage(items, pageNumber, pageSize, hits.total());
     }
 
     /**
      * DESACTIVAR ESTUDIANTE
      * Cambia el estado 'active' a false (soft delete)
+     * La entrada en caché se reemplaza con el nuevo estado
+     * Lectura y escritura en una sola transacción: el findById se une a ella
+     * y lee del primario (una réplica atrasada daría 404 o una versión vieja).
+     * El flush adelanta el UPDATE para que un conflicto de versión falle
+     * aquí y no después de actualizar la caché.
      * @throws NotFoundException si no existe el estudiante
      */
     @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public StudentResponse deactivate(Long id) {
         Student student = repo.findById(id).orElseThrow(() -> new NotFoundException("Estudiante no encontrado"));
+        Boolean previousActive = student.getActive();
         student.setActive(false);
-        return toResponse(repo.save(student));
+        StudentResponse response = toResponse(repo.saveAndFlush(student));
+        events.publishEvent(StudentChangedEvent.updated(response, previousActive));
+        return response;
     }
 
     /**
      * MÉTODO PRIVADO DE MAPEO
      * Convierte una entidad Student a DTO StudentResponse
      * Usado por todos los métodos para retornar datos al cliente
+     * (la lógica vive en StudentMapper)
      */
     private StudentResponse toResponse(Student student){
-        StudentResponse r = new StudentResponse();
-        r.setId(student.getId());
-        r.setFullName(student.getFullName());
-        r.setEmail(student.getEmail());
-        r.setBirthDate(student.getBirthDate());
-        r.setActive(student.getActive());
-        return r;
+        return StudentMapper.toResponse(student);
+    }
+
+    // Valida el tamaño de pagina pedido por el cliente
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("El tamaño de pagina debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    // Codifica el ultimo id entregado como un token opaco
+    private static String encodeCursor(Long lastId) {
+        byte[] raw = (CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // Decodifica el cursor recibido; sin cursor se empieza desde el inicio
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new BadRequestException("Cursor invalido");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Cursor invalido");
+        }
     }
 
     // ==================== IMPLEMENTACIONES PARA EXAMEN (COMENTADAS) ====================
 
     /*
     // 1. UPDATE - Actualizar estudiante (15 min)
+    //    @Transactional: la lectura va al primario junto con la escritura (ver deactivate)
     @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public StudentResponse update(Long id, StudentRequestData request) {
         Student student = repo.findById(id)
             .orElseThrow(() -> new NotFoundException("Estudiante no encontrado"));
         
         // Validar email duplicado solo si cambió
-        if (!student.getEmail().equals(request.getEmail()) && 
-            repo.existsByEmail(request.getEmail())) {
+        if (!student.getEmail().equals(request.email()) && 
+            repo.existsByEmail(request.email())) {
             throw new ConflictException("El email ya está registrado");
         }
         
-        student.setFullName(request.getFullName());
-        student.setEmail(request.getEmail());
-        student.setBirthDate(request.getBirthDate());
+        student.setFullName(request.fullName());
+        student.setEmail(request.email());
+        student.setBirthDate(request.birthDate());
         return toResponse(repo.save(student));
     }
     */
@@ -147,16 +336,6 @@ public class StudentServiceImpl implements StudentService {
     }
     */
 
-    /*
-    // 4. BUSCAR POR NOMBRE (10 min) - Requiere método en Repository
-    @Override
-    public List<StudentResponse> searchByName(String name) {
-        return repo.findByFullNameContainingIgnoreCase(name).stream()
-            .map(this::toResponse)
-            .toList();
-    }
-    */
-
     /*
     // 5. PAGINACIÓN (20 min) - Requiere imports
     @Override
@@ -168,6 +347,7 @@ public class StudentServiceImpl implements StudentService {
     /*
     // 6. DELETE (5 min)
     @Override
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public void delete(Long id) {
         if (!repo.existsById(id)) {
             throw new NotFoundException("Estudiante no encontrado");
@@ -187,6 +367,8 @@ public class StudentServiceImpl implements StudentService {
     /*
     // 8. ACTIVAR (5 min)
     @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public StudentResponse activate(Long id) {
         Student student = repo.findById(id)
             .orElseThrow(() -> new NotFoundException("Estudiante no encontrado"));
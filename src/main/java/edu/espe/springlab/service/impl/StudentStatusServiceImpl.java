@@ -0,0 +1,195 @@
+package edu.espe.springlab.service.impl;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.dto.StudentStatusChangeReport;
+import edu.espe.springlab.dto.StudentStatusChangeRequest;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.StudentStatusService;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * IMPLEMENTACIÓN DEL CAMBIO MASIVO DE ESTADO
+ *
+ * Activa o desactiva miles de estudiantes en una sola petición, sin
+ * cargar entidades ni hacer un findById + save por estudiante.
+ *
+ * FLUJO POR LOTE (tamaño configurable: app.students.bulk.chunk-size):
+ * 1. Lee los candidatos con una proyección (id, estado y versión)
+ * 2. Separa los que no existen, los que ya están en el estado pedido
+ *    y los que no coinciden con la versión esperada por el cliente
+ * 3. Ejecuta un UPDATE ... WHERE id IN (...) AND version = ? por cada
+ *    versión distinta del lote (normalmente una o dos sentencias)
+ * 4. Relee el lote: las filas que no quedaron en versión + 1 fueron
+ *    modificadas por otra petición y se reportan como conflicto
+ * 5. Publica un StudentChangedEvent por estudiante modificado y,
+ *    al confirmar la transacción, refresca la caché de estudiantes
+ */
+@Service
+public class StudentStatusServiceImpl implements StudentStatusService {
+
+    private final StudentRepository repo;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher events;
+    private final int chunkSize;
+
+    // Constructor para inyección de dependencias
+    public StudentStatusServiceImpl(StudentRepository repo,
+                                    CacheManager cacheManager,
+                                    ApplicationEventPublisher events,
+                                    @Value("${app.students.bulk.chunk-size:500}") int chunkSize) {
+        this.repo = repo;
+        this.cacheManager = cacheManager;
+        this.events = events;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * CAMBIAR ESTADO DE MUCHOS ESTUDIANTES
+     * Recibe una lista de ids o un filtro (no ambos) y procesa por lotes
+     * @throws BadRequestException si la selección no es válida
+     */
+    @Override
+    @Transactional
+    public StudentStatusChangeReport changeStatus(StudentStatusChangeRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == request.hasFilter()) {
+            throw new BadRequestException("Debe indicar una lista de ids o un filtro (no ambos)");
+        }
+        if (request.getBirthDateFrom() != null && request.getBirthDateTo() != null
+                && request.getBirthDateFrom().isAfter(request.getBirthDateTo())) {
+            throw new BadRequestException("birthDateFrom no puede ser posterior a birthDateTo");
+        }
+
+        long start = System.nanoTime();
+        StatusRun run = new StatusRun(request.getActive(), request.getExpectedVersions());
+        if (byIds) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            ids.removeIf(Objects::isNull);
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                List<StudentResponse> found = repo.findResponsesByIdIn(chunk);
+                Set<Long> foundIds = new HashSet<>();
+                found.forEach(s -> foundIds.add(s.id()));
+                chunk.stream().filter(id -> !foundIds.contains(id)).forEach(run.report::addNotFound);
+                run.apply(found);
+            }
+        } else {
+            String domainPattern = request.getEmailDomain() == null
+                    ? null
+                    : "%@" + request.getEmailDomain().toLowerCase(Locale.ROOT);
+            long afterId = 0;
+            List<StudentResponse> page;
+            do {
+                page = repo.findStatusCandidates(afterId, request.getActive(), request.getBirthDateFrom(),
+                        request.getBirthDateTo(), domainPattern, PageRequest.of(0, chunkSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                run.apply(page);
+                afterId = page.get(page.size() - 1).id();
+            } while (page.size() == chunkSize);
+        }
+        run.report.finish(System.nanoTime() - start);
+        return run.report;
+    }
+
+    /**
+     * Estado de un cambio masivo: aplica cada lote y acumula el reporte.
+     */
+    private class StatusRun {
+        private final Boolean active;
+        private final Map<Long, Long> expectedVersions;
+        private final StudentStatusChangeReport report;
+
+        StatusRun(Boolean active, Map<Long, Long> expectedVersions) {
+            this.active = active;
+            this.expectedVersions = expectedVersions == null ? Map.of() : expectedVersions;
+            this.report = new StudentStatusChangeReport(active);
+        }
+
+        void apply(List<StudentResponse> found) {
+            report.addMatched(found.size());
+
+            // 1. Candidatos agrupados por la versión leída
+            Map<Long, StudentResponse> before = new LinkedHashMap<>();
+            Map<Long, List<Long>> idsByVersion = new HashMap<>();
+            for (StudentResponse s : found) {
+                Long expected = expectedVersions.get(s.id());
+                if (expected != null && !expected.equals(s.version())) {
+                    report.addConflict(s.id());
+                } else if (Objects.equals(s.active(), active)) {
+                    report.addUnchanged();
+                } else {
+                    before.put(s.id(), s);
+                    idsByVersion.computeIfAbsent(s.version(), v -> new ArrayList<>()).add(s.id());
+                }
+            }
+            if (before.isEmpty()) {
+                return;
+            }
+
+            // 2. Un UPDATE por versión distinta del lote
+            Instant now = Instant.now();
+            idsByVersion.forEach((version, ids) -> repo.updateActiveIfVersion(ids, version, active, now));
+
+            // 3. Relectura: versión + 1 y estado pedido = actualizado por esta petición
+            Map<Long, StudentResponse> after = new HashMap<>();
+            repo.findResponsesByIdIn(before.keySet()).forEach(s -> after.put(s.id(), s));
+            List<StudentResponse> updated = new ArrayList<>();
+            for (StudentResponse old : before.values()) {
+                StudentResponse current = after.get(old.id());
+                if (current != null
+                        && Objects.equals(current.active(), active)
+                        && current.version() == old.version() + 1) {
+                    updated.add(current);
+                    report.addUpdated();
+                    events.publishEvent(StudentChangedEvent.updated(current, old.active()));
+                } else {
+                    report.addConflict(old.id());
+                }
+            }
+            refreshCache(updated);
+        }
+    }
+
+    // Refresca la caché de estudiantes solo si la transacción se confirma
+    private void refreshCache(List<StudentResponse> updated) {
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS_CACHE);
+        if (cache == null || updated.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updated.forEach(s -> cache.put(s.id(), s));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updated.forEach(s -> cache.put(s.id(), s));
+            }
+        });
+    }
+}
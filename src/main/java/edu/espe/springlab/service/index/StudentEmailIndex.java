@@ -0,0 +1,82 @@
+package edu.espe.springlab.service.index;
+
+import edu.espe.springlab.repository.StudentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * ÍNDICE EN MEMORIA DE EMAILS REGISTRADOS
+ * 
+ * Evita la consulta existsByEmail al crear estudiantes con un email nuevo.
+ * 
+ * FUNCIONAMIENTO:
+ * - Al arrancar la aplicación se cargan todos los emails (normalizados)
+ * - Cada alta (individual o masiva) agrega su email al índice
+ * - El índice siempre contiene TODOS los emails existentes (puede tener de más
+ *   si una transacción falló), por lo tanto:
+ *   · Si el email NO está en el índice → seguro no existe (se omite la consulta)
+ *   · Si está en el índice → puede existir (se confirma con la BD)
+ * 
+ * Mientras el índice no termina de cargar, mightContain() responde true
+ * y el servicio consulta la BD como antes.
+ * 
+ * Los emails se normalizan (trim + minúsculas) igual que en la importación.
+ */
+@Component
+public class StudentEmailIndex {
+
+    private final StudentRepository repo;
+
+    // Conjunto concurrente de emails normalizados
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+
+    // true cuando la carga inicial terminó
+    private volatile boolean loaded;
+
+    public StudentEmailIndex(StudentRepository repo) {this.repo = repo;}
+
+    /**
+     * CARGA INICIAL
+     * Recorre los emails con un cursor al arrancar la aplicación.
+     * Las altas que ocurran durante la carga también quedan en el índice.
+     * Sin readOnly: con réplicas de lectura la carga lee del primario (una
+     * réplica atrasada dejaría fuera emails que ningún evento vuelve a agregar).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUp() {
+        try (Stream<String> all = repo.streamAllEmails()) {
+            all.forEach(this::add);
+        }
+        loaded = true;
+    }
+
+    // false = el email seguro no existe; true = hay que confirmarlo con la BD
+    public boolean mightContain(String email) {
+        return !loaded || emails.contains(normalize(email));
+    }
+
+    // Registra un email recién guardado
+    public void add(String email) {
+        emails.add(normalize(email));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return emails.size();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
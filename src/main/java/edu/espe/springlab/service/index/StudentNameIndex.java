@@ -0,0 +1,326 @@
+package edu.espe.springlab.service.index;
+
+import edu.espe.springlab.repository.StudentNameView;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * ÍNDICE INVERTIDO DE TRIGRAMAS SOBRE Student.fullName
+ * 
+ * Reemplaza el LIKE '%texto%' (que obliga a recorrer toda la tabla)
+ * por una búsqueda en memoria.
+ * 
+ * FUNCIONAMIENTO:
+ * 1. El nombre se normaliza: sin tildes ni diéresis, en minúsculas y
+ *    solo letras/dígitos ("José Núñez" → "jose nunez")
+ * 2. Cada palabra se divide en trigramas ("  j", " jo", "jos", "ose", "se ")
+ * 3. Cada trigrama apunta al conjunto de ids que lo contienen
+ * 
+ * BÚSQUEDA:
+ * - Se cuentan los trigramas de la consulta que tiene cada candidato
+ * - Deben coincidir al menos la mitad (tolera errores de tipeo)
+ * - Puntaje = coincidencias / trigramas de la consulta, +1 si el nombre
+ *   contiene la consulta completa
+ * - Orden: puntaje desc, nombre, id
+ *
+ * COSTO DE LA BÚSQUEDA:
+ * - Las listas de ids son arreglos long[] ordenados (sin Long en cajas)
+ * - Los trigramas se procesan del más raro al más común: un resultado
+ *   debe estar en alguna de las (n - mínimo + 1) listas más cortas, así
+ *   que solo esas se recorren; en las más largas solo se busca
+ *   (binaria) a cada candidato
+ * - Se guardan solo los mejores (page + 1) * size resultados en un heap
+ *   acotado en lugar de ordenar todas las coincidencias
+ * 
+ * ACTUALIZACIÓN:
+ * - Carga completa al arrancar (ApplicationReadyEvent)
+ * - Incremental con cada StudentChangedEvent confirmado
+ *   (@TransactionalEventListener: una transacción revertida no cambia el índice)
+ * - Cada id se actualiza de forma atómica (names.compute bloquea la entrada):
+ *   dos cambios del mismo estudiante no mezclan sus trigramas
+ * - Se guarda la versión indexada: un evento o una carga con una versión
+ *   más vieja que la indexada se ignora (los eventos después del commit
+ *   pueden llegar en otro orden)
+ */
+@Component
+public class StudentNameIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    // Fracción mínima de trigramas de la consulta que debe tener un resultado
+    private static final double MIN_MATCH_RATIO = 0.5;
+
+    // Orden de los resultados: el mejor primero
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Hit::name)
+            .thenComparingLong(Hit::id);
+
+    private final StudentRepository repo;
+
+    // trigrama → ids de estudiantes que lo contienen
+    private final ConcurrentMap<Long, Postings> postings = new ConcurrentHashMap<>();
+
+    // id → nombre normalizado y versión (para ranking y para quitar trigramas viejos)
+    private final ConcurrentMap<Long, Indexed> names = new ConcurrentHashMap<>();
+
+    public StudentNameIndex(StudentRepository repo) {this.repo = repo;}
+
+    /**
+     * CARGA INICIAL
+     * Recorre id y nombre de todos los estudiantes con un cursor (consulta
+     * marcada de solo lectura). La transacción no es readOnly para que, con
+     * réplicas de lectura, la carga lea del primario.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUp() {
+        try (Stream<StudentNameView> all = repo.streamAllNames()) {
+            all.forEach(view -> index(view.getId(), view.getFullName(), view.getVersion()));
+        }
+    }
+
+    // Actualización incremental en cada alta o cambio confirmado
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        index(event.student().id(), event.student().fullName(), event.student().version());
+    }
+
+    /**
+     * Agrega o reemplaza el nombre de un estudiante en el índice.
+     * Todo el cambio (nombre + trigramas) ocurre dentro de names.compute,
+     * así las actualizaciones del mismo id no se intercalan.
+     * @param version - Versión del estudiante (null = 0); si es menor que la indexada no cambia nada
+     */
+    public void index(Long id, String fullName, Long version) {
+        String folded = fold(fullName);
+        long incoming = version == null ? 0 : version;
+        names.compute(id, (key, previous) -> {
+            if (previous != null && previous.version() > incoming) {
+                return previous;
+            }
+            if (previous == null || !folded.equals(previous.name())) {
+                if (previous != null) {
+                    for (long gram : trigrams(previous.name())) {
+                        Postings ids = postings.get(gram);
+                        if (ids != null) {
+                            ids.remove(id);
+                        }
+                    }
+                }
+                for (long gram : trigrams(folded)) {
+                    postings.computeIfAbsent(gram, k -> new Postings()).add(id);
+                }
+            }
+            return new Indexed(folded, incoming);
+        });
+    }
+
+    /**
+     * BUSCAR
+     * @param query - Texto a buscar (se normaliza igual que los nombres)
+     * @param page - Página (desde 0)
+     * @param size - Resultados por página
+     * @return ids de la página en orden de relevancia + total de coincidencias
+     */
+    public SearchHits search(String query, int page, int size) {
+        String folded = fold(query);
+        long[] grams = trigrams(folded);
+        if (grams.length == 0 || size <= 0) {
+            return new SearchHits(List.of(), 0);
+        }
+        int minMatches = (int) Math.ceil(grams.length * MIN_MATCH_RATIO);
+
+        // Listas de la consulta, de la más corta (trigrama más raro) a la más larga;
+        // se ordena por el tamaño leído una vez (tamaño << 32 | posición)
+        long[] order = new long[grams.length];
+        Postings[] found = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            found[i] = postings.getOrDefault(grams[i], Postings.EMPTY);
+            order[i] = ((long) found[i].size() << 32) | i;
+        }
+        Arrays.sort(order);
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = found[(int) order[i]];
+        }
+
+        // Candidatos: ids de las listas más cortas, ordenados (los repetidos quedan juntos)
+        int scanned = grams.length - minMatches + 1;
+        long[] candidates = Postings.concat(lists, scanned);
+        Arrays.sort(candidates);
+
+        // Heap acotado con los mejores (page + 1) * size; la cabeza es el peor
+        int keep = (int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE - 1);
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.min(keep, 1024) + 1, RANKING.reversed());
+        long total = 0;
+        for (int i = 0; i < candidates.length; ) {
+            long id = candidates[i];
+            int matches = 0;
+            while (i < candidates.length && candidates[i] == id) {
+                matches++;
+                i++;
+            }
+            // En las listas largas solo se busca a este candidato; se corta si ya no alcanza el mínimo
+            for (int l = scanned; l < lists.length && matches + (lists.length - l) >= minMatches; l++) {
+                if (lists[l].contains(id)) {
+                    matches++;
+                }
+            }
+            Indexed indexed = names.get(id);
+            if (matches < minMatches || indexed == null) {
+                continue;
+            }
+            String name = indexed.name();
+            total++;
+            double score = matches / (double) grams.length;
+            if (name.contains(folded)) {
+                score += 1;
+            }
+            best.add(new Hit(id, name, score));
+            if (best.size() > keep) {
+                best.poll();
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        int from = (int) Math.min((long) page * size, ranked.size());
+        List<Long> ids = ranked.subList(from, ranked.size()).stream().map(Hit::id).toList();
+        return new SearchHits(ids, total);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    // Resultado de una búsqueda: ids de la página y total de coincidencias
+    public record SearchHits(List<Long> ids, long total) {}
+
+    private record Hit(long id, String name, double score) {}
+
+    // Nombre normalizado y versión indexados de un estudiante
+    private record Indexed(String name, long version) {}
+
+    /**
+     * Ids de un trigrama: arreglo ordenado con espacio libre al final.
+     * Los ids nuevos salen de una secuencia creciente, así que agregar
+     * casi siempre es escribir al final. Las lecturas y escrituras se
+     * sincronizan sobre la lista (cada una dura una copia o una búsqueda).
+     */
+    static final class Postings {
+        static final Postings EMPTY = new Postings();
+
+        private long[] ids = new long[4];
+        private int size;
+
+        synchronized void add(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        synchronized void remove(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+        }
+
+        synchronized boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        // Ids de las primeras 'count' listas en un solo arreglo (con repetidos)
+        static long[] concat(Postings[] lists, int count) {
+            long[][] parts = new long[count][];
+            int length = 0;
+            for (int i = 0; i < count; i++) {
+                parts[i] = lists[i].snapshot();
+                length += parts[i].length;
+            }
+            long[] all = new long[length];
+            int filled = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, all, filled, part.length);
+                filled += part.length;
+            }
+            return all;
+        }
+    }
+
+    /**
+     * Normaliza un texto: quita acentos (NFD + marcas), pasa a minúsculas
+     * y reemplaza todo lo que no sea letra o dígito por un espacio.
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder sb = new StringBuilder(stripped.length());
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            } else if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+                sb.append(' ');
+            }
+        }
+        int end = sb.length();
+        if (end > 0 && sb.charAt(end - 1) == ' ') {
+            sb.setLength(end - 1);
+        }
+        return sb.toString();
+    }
+
+    // Trigramas distintos de un texto normalizado, codificados en un long (3 x 16 bits)
+    static long[] trigrams(String folded) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String token : folded.split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return grams.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,24 @@
+package edu.espe.springlab.service.mapper;
+
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentResponse;
+
+/**
+ * MAPEO ENTIDAD → DTO
+ * 
+ * Convierte una entidad Student a StudentResponse.
+ * Está separado del servicio para poder reutilizarlo y medirlo
+ * de forma aislada (ver benchmarks en src/jmh).
+ * Un active nulo (filas antiguas) se toma como activo, igual que
+ * en las proyecciones del repositorio.
+ */
+public final class StudentMapper {
+
+    private StudentMapper() {}
+
+    public static StudentResponse toResponse(Student student) {
+        return new StudentResponse(student.getId(), student.getFullName(), student.getEmail(),
+                student.getBirthDate(), !Boolean.FALSE.equals(student.getActive()),
+                student.getVersion(), student.getUpdatedAt());
+    }
+}
@@ -0,0 +1,239 @@
+package edu.espe.springlab.service.stats;
+
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.dto.StudentStats;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ESTADÍSTICAS AGREGADAS DE ESTUDIANTES (EN MEMORIA)
+ *
+ * Mantiene contadores para los dashboards sin recorrer la tabla:
+ * - Activos / inactivos
+ * - Histograma por año de nacimiento (los rangos de edad se arman al leer)
+ * - Estudiantes por dominio de email
+ *
+ * FUNCIONAMIENTO:
+ * - Los contadores son LongAdder (celdas separadas por hilo, sin contención)
+ * - Cada StudentChangedEvent los actualiza después del COMMIT
+ *   (@TransactionalEventListener): una transacción revertida no cuenta
+ * - Al arrancar y cada app.students.stats.recount-interval-ms se recuenta
+ *   con tres consultas GROUP BY y se reemplazan los contadores; la
+ *   diferencia encontrada queda en lastDrift
+ *
+ * Un cambio que llega mientras se recuenta puede perderse; el siguiente
+ * recuento lo corrige. La edad se calcula por año de nacimiento
+ * (puede diferir en un año de la edad exacta).
+ *
+ * LIMITACIÓN: El evento UPDATED no trae el email ni la fecha anteriores;
+ * si se habilita la actualización completa (examen #1) esos cambios se
+ * reflejan en el siguiente recuento.
+ */
+@Component
+public class StudentStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentStatistics.class);
+
+    static final String UNKNOWN = "unknown";
+
+    // Límites inferiores de cada rango de edad y sus etiquetas
+    private static final int[] AGE_FROM = {0, 18, 22, 26, 31, 41};
+    private static final String[] AGE_LABELS = {"0-17", "18-21", "22-25", "26-30", "31-40", "41+"};
+
+    // Máximo de dominios que se pueden pedir en una lectura
+    static final int MAX_TOP_DOMAINS = 100;
+
+    private final StudentRepository repo;
+
+    // Contadores vigentes (se reemplazan completos en cada recuento)
+    private volatile Counters counters = new Counters();
+
+    private volatile boolean loaded;
+    private volatile Instant lastRecount;
+    private volatile long lastDrift;
+
+    public StudentStatistics(StudentRepository repo) {this.repo = repo;}
+
+    /**
+     * Conjunto de contadores; cada incremento es O(1) y sin bloqueos.
+     */
+    private static final class Counters {
+        final LongAdder active = new LongAdder();
+        final LongAdder inactive = new LongAdder();
+        final LongAdder unknownBirth = new LongAdder();
+        final ConcurrentMap<Integer, LongAdder> birthYears = new ConcurrentHashMap<>();
+        final ConcurrentMap<String, LongAdder> domains = new ConcurrentHashMap<>();
+
+        LongAdder status(Boolean value) {
+            return Boolean.FALSE.equals(value) ? inactive : active;
+        }
+
+        LongAdder birthYear(Integer year) {
+            return year == null ? unknownBirth : birthYears.computeIfAbsent(year, y -> new LongAdder());
+        }
+
+        LongAdder domain(String domain) {
+            return domains.computeIfAbsent(domain, d -> new LongAdder());
+        }
+    }
+
+    // ==================== ACTUALIZACIÓN INCREMENTAL ====================
+
+    /**
+     * Aplica un alta o un cambio de estado a los contadores.
+     * Sin transacción activa (ej: create) se aplica de inmediato.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        Counters c = counters;
+        StudentResponse s = event.student();
+        if (event.type() == StudentChangedEvent.Type.CREATED) {
+            c.status(s.active()).increment();
+            c.birthYear(s.birthDate() == null ? null : s.birthDate().getYear()).increment();
+            c.domain(domainOf(s.email())).increment();
+        } else if (event.previousActive() != null
+                && c.status(event.previousActive()) != c.status(s.active())) {
+            c.status(event.previousActive()).decrement();
+            c.status(s.active()).increment();
+        }
+    }
+
+    // ==================== RECUENTO EN LA BD ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        recount();
+    }
+
+    /**
+     * RECUENTO PERIÓDICO
+     * Cuenta en la BD (GROUP BY), compara con los contadores en memoria
+     * y los reemplaza por el resultado.
+     */
+    @Scheduled(initialDelayString = "${app.students.stats.recount-interval-ms:300000}",
+            fixedDelayString = "${app.students.stats.recount-interval-ms:300000}")
+    public void recount() {
+        Counters fresh = new Counters();
+        for (Object[] row : repo.countByActive()) {
+            fresh.status((Boolean) row[0]).add(((Number) row[1]).longValue());
+        }
+        for (Object[] row : repo.countByBirthYear()) {
+            Integer year = row[0] == null ? null : ((Number) row[0]).intValue();
+            fresh.birthYear(year).add(((Number) row[1]).longValue());
+        }
+        for (Object[] row : repo.countByEmailDomain()) {
+            fresh.domain((String) row[0]).add(((Number) row[1]).longValue());
+        }
+
+        long drift = loaded ? drift(counters, fresh) : 0;
+        counters = fresh;
+        lastRecount = Instant.now();
+        lastDrift = drift;
+        loaded = true;
+        if (drift != 0) {
+            log.warn("Estadisticas de estudiantes corregidas por el recuento (diferencia: {})", drift);
+        }
+    }
+
+    // ==================== LECTURA ====================
+
+    /**
+     * Lectura de las estadísticas: no consulta la BD.
+     * @param topDomains Cantidad de dominios a detallar (1 a 100)
+     */
+    public StudentStats snapshot(int topDomains) {
+        Counters c = counters;
+        long active = c.active.sum();
+        long inactive = c.inactive.sum();
+
+        // Rangos de edad a partir del histograma por año
+        int currentYear = LocalDate.now().getYear();
+        long[] buckets = new long[AGE_LABELS.length];
+        c.birthYears.forEach((year, count) -> buckets[bucketOf(currentYear - year)] += count.sum());
+        Map<String, Long> ageBuckets = new LinkedHashMap<>();
+        for (int i = 0; i < AGE_LABELS.length; i++) {
+            ageBuckets.put(AGE_LABELS[i], buckets[i]);
+        }
+        ageBuckets.put(UNKNOWN, c.unknownBirth.sum());
+
+        // Dominios más frecuentes; el resto se suma en otherDomains
+        int limit = Math.max(1, Math.min(topDomains, MAX_TOP_DOMAINS));
+        List<Map.Entry<String, Long>> domains = c.domains.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+        Map<String, Long> top = new LinkedHashMap<>();
+        long others = 0;
+        for (int i = 0; i < domains.size(); i++) {
+            if (i < limit) {
+                top.put(domains.get(i).getKey(), domains.get(i).getValue());
+            } else {
+                others += domains.get(i).getValue();
+            }
+        }
+        return new StudentStats(active + inactive, active, inactive, ageBuckets, top, others,
+                loaded, lastRecount, lastDrift);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Índice del rango de edad (edades negativas caen en el primero)
+    private static int bucketOf(int age) {
+        int bucket = 0;
+        for (int i = 0; i < AGE_FROM.length; i++) {
+            if (age >= AGE_FROM[i]) {
+                bucket = i;
+            }
+        }
+        return bucket;
+    }
+
+    // Suma de diferencias absolutas entre dos conjuntos de contadores
+    private static long drift(Counters a, Counters b) {
+        long drift = Math.abs(a.active.sum() - b.active.sum())
+                + Math.abs(a.inactive.sum() - b.inactive.sum())
+                + Math.abs(a.unknownBirth.sum() - b.unknownBirth.sum());
+        return drift + drift(a.birthYears, b.birthYears) + drift(a.domains, b.domains);
+    }
+
+    private static <K> long drift(Map<K, LongAdder> a, Map<K, LongAdder> b) {
+        Set<K> keys = new HashSet<>(a.keySet());
+        keys.addAll(b.keySet());
+        long drift = 0;
+        for (K key : keys) {
+            long left = a.containsKey(key) ? a.get(key).sum() : 0;
+            long right = b.containsKey(key) ? b.get(key).sum() : 0;
+            drift += Math.abs(left - right);
+        }
+        return drift;
+    }
+
+    // Dominio del email en minúsculas (igual que el recuento en la BD)
+    static String domainOf(String email) {
+        String normalized = Objects.requireNonNull(email).trim().toLowerCase(Locale.ROOT);
+        return normalized.substring(normalized.indexOf('@') + 1);
+    }
+}
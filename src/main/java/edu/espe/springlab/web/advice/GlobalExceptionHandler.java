@@ -1,7 +1,8 @@
 package edu.espe.springlab.web.advice;
 
-import org.apache.coyote.BadRequestException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -23,6 +24,10 @@ import java.util.Map;
  * EXCEPCIONES MANEJADAS:
  * - NotFoundException (404) → Recurso no encontrado
  * - ConflictException (409) → Email duplicado
+ * - ObjectOptimisticLockingFailureException (409) → Modificación concurrente (@Version)
+ * - BadRequestException (400) → Parámetros inválidos (ej: cursor)
+ * - TooManyRequestsException (429) → Límite de peticiones del cliente (Retry-After)
+ * - ServiceUnavailableException (503) → Servicio saturado (Retry-After)
  * - MethodArgumentNotValidException (400) → Validaciones fallidas
  * - Exception (500) → Errores genéricos
  * 
@@ -49,6 +54,30 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    //409 cuando otra peticion modifico el estudiante al mismo tiempo (@Version)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLock(ObjectOptimisticLockingFailureException ex){
+        return error(HttpStatus.CONFLICT, "El estudiante fue modificado por otra peticion, vuelva a intentarlo");
+    }
+
+    //400 por parametros invalidos (cursor, tamaño de pagina, etc.)
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> handleBadRequest(BadRequestException ex){
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    //429 cuando el cliente supera el limite de su endpoint
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> handleTooManyRequests(TooManyRequestsException ex){
+        return withRetryAfter(error(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()), ex.getRetryAfterSeconds());
+    }
+
+    //503 cuando el servicio esta saturado (load shedding)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailable(ServiceUnavailableException ex){
+        return withRetryAfter(error(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()), ex.getRetryAfterSeconds());
+    }
+
     //400 por validaciones
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidation(MethodArgumentNotValidException ex){
@@ -69,6 +98,13 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
+    //Agrega el header Retry-After (segundos) a una respuesta de error
+    private ResponseEntity<Map<String, Object>> withRetryAfter(ResponseEntity<Map<String, Object>> response, long seconds) {
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(response.getBody());
+    }
+
     //Construye el JSON estandar de error
     private ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
         Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,15 @@
+package edu.espe.springlab.web.advice;
+
+public class ServiceUnavailableException extends RuntimeException {
+    // Segundos sugeridos al cliente antes de reintentar (header Retry-After)
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,40 @@
+package edu.espe.springlab.web.controller;
+
+import edu.espe.springlab.audit.AuditLog;
+import edu.espe.springlab.audit.AuditPage;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST CONTROLLER - Log de auditoría
+ * 
+ * GET /api/audit?since=1&limit=100 → Registros desde la secuencia 'since'
+ * La respuesta incluye nextSince para pedir la página siguiente.
+ * 
+ * Solo existe cuando app.audit.enabled=true
+ */
+@RestController
+@RequestMapping("/api/audit")
+@ConditionalOnProperty(prefix = "app.audit", name = "enabled", havingValue = "true")
+public class AuditController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AuditLog auditLog;
+
+    public AuditController(AuditLog auditLog) { this.auditLog = auditLog; }
+
+    @GetMapping
+    public ResponseEntity<AuditPage> read(@RequestParam(defaultValue = "1") long since,
+                                          @RequestParam(defaultValue = "100") int limit){
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("El limite debe estar entre 1 y " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(auditLog.read(since, limit));
+    }
+}
@@ -0,0 +1,139 @@
+package edu.espe.springlab.web.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.espe.springlab.cache.StudentCacheInvalidator;
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.service.coalesce.SingleFlight;
+import edu.espe.springlab.service.coalesce.StudentReadCoalescer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST CONTROLLER - Estadísticas de caché
+ * 
+ * GET /api/cache/stats → Contadores de cada caché en memoria
+ * 
+ * Sirve para dimensionar la caché (maximumSize / expireAfterWrite):
+ * - hits / misses / hitRate: Efectividad de la caché
+ * - evictions: Entradas desalojadas por tamaño o expiración
+ * - size: Entradas actuales (aproximado)
+ * 
+ * "coalescing": Lecturas agrupadas por StudentReadCoalescer
+ * - loads: Consultas ejecutadas
+ * - shared: Pedidos que reutilizaron una consulta en curso o reciente
+ * 
+ * "hibernate": Cache de segundo nivel (requiere app.cache.hibernate.statistics)
+ * - regions: hits / misses / puts por región (entidad y natural id)
+ * - naturalId: Búsquedas por email resueltas en memoria vs con SQL
+ * - queryCache: Resultados de consultas cacheables
+ * - invalidation: Mensajes publicados / recibidos de otros nodos
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final StudentReadCoalescer coalescer;
+    private final Statistics hibernateStats;
+    private final StudentCacheInvalidator invalidator;
+
+    public CacheStatsController(CacheManager cacheManager,
+                                StudentReadCoalescer coalescer,
+                                EntityManagerFactory entityManagerFactory,
+                                StudentCacheInvalidator invalidator) {
+        this.cacheManager = cacheManager;
+        this.coalescer = coalescer;
+        this.hibernateStats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.invalidator = invalidator;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats(){
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeine) {
+                CacheStats stats = caffeine.getNativeCache().stats();
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("hits", stats.hitCount());
+                entry.put("misses", stats.missCount());
+                entry.put("hitRate", stats.hitRate());
+                entry.put("evictions", stats.evictionCount());
+                entry.put("size", caffeine.getNativeCache().estimatedSize());
+                body.put(name, entry);
+            }
+        }
+        Map<String, Object> coalescing = new LinkedHashMap<>();
+        coalescing.put("studentById", flightStats(coalescer.getByIdFlight()));
+        coalescing.put("studentList", flightStats(coalescer.getListFlight()));
+        body.put("coalescing", coalescing);
+        body.put("hibernate", hibernateStats());
+        return ResponseEntity.ok(body);
+    }
+
+    private Map<String, Object> hibernateStats() {
+        Map<String, Object> hibernate = new LinkedHashMap<>();
+        hibernate.put("statisticsEnabled", hibernateStats.isStatisticsEnabled());
+        if (hibernateStats.isStatisticsEnabled()) {
+            Map<String, Object> regions = new LinkedHashMap<>();
+            for (String region : hibernateStats.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics stats = hibernateStats.getCacheRegionStatistics(region);
+                if (stats != null) {
+                    regions.put(region, regionStats(stats));
+                }
+            }
+            hibernate.put("regions", regions);
+
+            NaturalIdStatistics naturalId = hibernateStats.getNaturalIdStatistics(Student.class.getName());
+            Map<String, Object> email = new LinkedHashMap<>();
+            email.put("hits", naturalId.getCacheHitCount());
+            email.put("misses", naturalId.getCacheMissCount());
+            email.put("queries", naturalId.getExecutionCount());
+            hibernate.put("naturalId", email);
+
+            Map<String, Object> queries = new LinkedHashMap<>();
+            queries.put("hits", hibernateStats.getQueryCacheHitCount());
+            queries.put("misses", hibernateStats.getQueryCacheMissCount());
+            queries.put("puts", hibernateStats.getQueryCachePutCount());
+            hibernate.put("queryCache", queries);
+        }
+        Map<String, Object> invalidation = new LinkedHashMap<>();
+        invalidation.put("nodeId", invalidator.getNodeId());
+        invalidation.put("published", invalidator.getPublished());
+        invalidation.put("received", invalidator.getReceived());
+        hibernate.put("invalidation", invalidation);
+        return hibernate;
+    }
+
+    private static Map<String, Object> regionStats(CacheRegionStatistics stats) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("hits", stats.getHitCount());
+        entry.put("misses", stats.getMissCount());
+        entry.put("puts", stats.getPutCount());
+        // JCache no informa el tamaño de la región (Hibernate devuelve un valor negativo)
+        if (stats.getElementCountInMemory() >= 0) {
+            entry.put("size", stats.getElementCountInMemory());
+        }
+        return entry;
+    }
+
+    private static Map<String, Object> flightStats(SingleFlight<?, ?> flight) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("loads", flight.getLoads());
+        entry.put("shared", flight.getShared());
+        return entry;
+    }
+}
@@ -0,0 +1,30 @@
+package edu.espe.springlab.web.controller;
+
+import edu.espe.springlab.metrics.LatencyMetrics;
+import edu.espe.springlab.metrics.LatencyStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST CONTROLLER - Métricas de latencia
+ * 
+ * GET /api/metrics/latency → p50/p90/p99/p999, máximo y tasa de peticiones
+ * por endpoint y status (registrados por RequestLoggingInterceptor)
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final LatencyMetrics latencyMetrics;
+
+    public MetricsController(LatencyMetrics latencyMetrics) { this.latencyMetrics = latencyMetrics; }
+
+    @GetMapping("/latency")
+    public ResponseEntity<List<LatencyStats>> latency(){
+        return ResponseEntity.ok(latencyMetrics.snapshot());
+    }
+}
@@ -0,0 +1,68 @@
+package edu.espe.springlab.web.controller;
+
+import edu.espe.springlab.changes.StudentChangeFeed;
+import edu.espe.springlab.changes.StudentChangePage;
+import edu.espe.springlab.changes.StudentChangeStreams;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST CONTROLLER - Feed de cambios de estudiantes
+ * 
+ * GET /api/students/changes?since=N&limit=100&waitMs=25000
+ *   → Long-poll: cambios con sequence >= N; si no hay, espera hasta waitMs
+ *     (sin ocupar un hilo) y responde una página vacía. Sin 'since' se
+ *     esperan solo los cambios nuevos.
+ * GET /api/students/changes/stream?since=N (text/event-stream)
+ *   → Server-Sent Events: un evento por cambio (id = sequence). Al
+ *     reconectar, el navegador envía Last-Event-ID y se continúa desde ahí.
+ * 
+ * La respuesta incluye nextSince para la siguiente petición.
+ */
+@RestController
+@RequestMapping("/api/students/changes")
+public class StudentChangeController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final StudentChangeFeed feed;
+    private final StudentChangeStreams streams;
+    private final long maxWaitMillis;
+
+    public StudentChangeController(StudentChangeFeed feed,
+                                   StudentChangeStreams streams,
+                                   @Value("${app.students.changes.max-wait-ms:30000}") long maxWaitMillis) {
+        this.feed = feed;
+        this.streams = streams;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @GetMapping
+    public CompletableFuture<StudentChangePage> poll(@RequestParam(required = false) Long since,
+                                                     @RequestParam(defaultValue = "100") int limit,
+                                                     @RequestParam(defaultValue = "25000") long waitMs){
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("El limite debe estar entre 1 y " + MAX_LIMIT);
+        }
+        if (waitMs < 0 || waitMs > maxWaitMillis) {
+            throw new BadRequestException("waitMs debe estar entre 0 y " + maxWaitMillis);
+        }
+        long from = since == null ? feed.getLastSequence() + 1 : since;
+        return feed.poll(from, limit, waitMs);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long since,
+                             @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId){
+        return streams.subscribe(lastEventId != null ? Long.valueOf(lastEventId + 1) : since);
+    }
+}
@@ -1,12 +1,31 @@
 package edu.espe.springlab.web.controller;
 
+import edu.espe.springlab.dto.StudentImportReport;
+import edu.espe.springlab.dto.StudentListVersion;
+import edu.espe.springlab.dto.StudentPage;
 import edu.espe.springlab.dto.StudentRequestData;
 import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.dto.StudentSearchPage;
+import edu.espe.springlab.dto.StudentStatusChangeReport;
+import edu.espe.springlab.dto.StudentStatusChangeRequest;
+import edu.espe.springlab.service.StudentExportService;
+import edu.espe.springlab.service.StudentImportService;
 import edu.espe.springlab.service.StudentService;
+import edu.espe.springlab.service.StudentStatusService;
+import edu.espe.springlab.service.export.ExportColumn;
+import edu.espe.springlab.service.export.ExportFormat;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 
 /**
@@ -19,12 +38,27 @@ import java.util.List;
  * - POST   /                    → Crear estudiante
  * - GET    /{id}                → Obtener por ID
  * - GET    /                    → Listar todos
+ * - GET    / (application/x-ndjson) → Listar todos en streaming (NDJSON)
+ * - GET    /export              → Exportar a CSV o NDJSON (opcional gzip)
+ * - GET    /cursor              → Listar por paginas con cursor
+ * - GET    /search?name=        → Buscar por nombre (ranking por relevancia)
  * - PATCH  /{id}/deactivate     → Desactivar estudiante
+ * - PATCH  /status              → Activar/desactivar muchos (ids o filtro)
+ * - POST   /import              → Importación masiva (JSON o CSV)
  * 
  * ANOTACIONES:
  * @RestController - Combina @Controller + @ResponseBody
  * @RequestMapping - Define la ruta base del controlador
  * 
+ * PETICIONES CONDICIONALES:
+ * GET /{id} y GET / envían ETag y Last-Modified; si el cliente repite la
+ * petición con If-None-Match / If-Modified-Since y nada cambió, se
+ * responde 304 Not Modified sin cuerpo.
+ * 
+ * FORMATOS (header Accept):
+ * application/json (por defecto), application/cbor y application/x-jackson-smile
+ * (ver WebConfig). Las respuestas grandes se comprimen con gzip (server.compression).
+ * 
  * INYECCIÓN DE DEPENDENCIAS:
  * Se usa inyección por constructor (mejor práctica)
  */
@@ -35,8 +69,25 @@ public class StudentController {
     // Inyección del servicio (Spring lo proporciona automáticamente)
     private final StudentService studentService;
 
+    // Servicio de importación masiva
+    private final StudentImportService importService;
+
+    // Servicio de cambio masivo de estado
+    private final StudentStatusService statusService;
+
+    // Servicio de exportación (CSV / NDJSON)
+    private final StudentExportService exportService;
+
     // Constructor para inyección de dependencias
-    public StudentController(StudentService studentService) { this.studentService = studentService; }
+    public StudentController(StudentService studentService,
+                             StudentImportService importService,
+                             StudentStatusService statusService,
+                             StudentExportService exportService) {
+        this.studentService = studentService;
+        this.importService = importService;
+        this.statusService = statusService;
+        this.exportService = exportService;
+    }
 
     /**
      * CREAR ESTUDIANTE
@@ -53,21 +104,121 @@ public class StudentController {
      * OBTENER POR ID
      * GET /api/students/{id}
      * @param id - ID del estudiante
-     * @return 200 OK + datos del estudiante (404 si no existe)
+     * ETag débil = id + version; Spring responde 304 automáticamente si coincide
+     * con If-None-Match (o si no cambió desde If-Modified-Since).
+     * Débil porque Tomcat no comprime respuestas con ETag fuerte y porque
+     * el mismo valor se usa para JSON, CBOR y Smile (Vary: Accept)
+     * @return 200 OK + datos del estudiante (304 si no cambió, 404 si no existe)
      */
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponse> getById(@PathVariable Long id){
-        return ResponseEntity.ok(studentService.getById(id));
+        StudentResponse student = studentService.getById(id);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag("W/\"" + student.id() + "-" + student.version() + "\"")
+                .varyBy(HttpHeaders.ACCEPT);
+        if (student.updatedAt() != null) {
+            ok.lastModified(student.updatedAt());
+        }
+        return ok.body(student);
     }
 
     /**
      * LISTAR TODOS
      * GET /api/students
-     * @return 200 OK + lista de todos los estudiantes
+     * Antes de cargar las filas se consulta el validador de la colección
+     * (conteo + última modificación, leído del primario); si el cliente ya
+     * tiene esa versión se responde 304 sin leer la tabla.
+     * Si no, ETag y Last-Modified se calculan de las filas enviadas: con
+     * réplicas de lectura el listado puede venir de una réplica atrasada y
+     * su validador no debe ser el del primario (el cliente guardaría filas
+     * viejas con la versión nueva y recibiría 304 hasta la próxima escritura).
+     * @return 200 OK + lista de todos los estudiantes (304 si no cambió)
      */
     @GetMapping
-    public ResponseEntity<List<StudentResponse>> getAll(){
-        return ResponseEntity.ok(studentService.list());
+    public ResponseEntity<List<StudentResponse>> getAll(WebRequest request){
+        StudentListVersion current = studentService.listVersion();
+        if (request.checkNotModified(current.etag(), current.lastModifiedMillis())) {
+            return null;
+        }
+        List<StudentResponse> students = studentService.list();
+        StudentListVersion version = StudentListVersion.of(students);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().eTag(version.etag()).varyBy(HttpHeaders.ACCEPT);
+        if (version.lastModified() != null) {
+            ok.lastModified(version.lastModified());
+        }
+        return ok.body(students);
+    }
+
+    /**
+     * LISTAR TODOS EN STREAMING (NDJSON)
+     * GET /api/students con Accept: application/x-ndjson
+     * Escribe un estudiante por linea a medida que sale del cursor JDBC,
+     * sin acumular la lista completa en memoria. Usa la exportación NDJSON
+     * (todas las columnas): cada fila va directo al generador, sin crear
+     * un StudentResponse por estudiante.
+     * @return 200 OK + un objeto JSON por linea
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll(){
+        List<ExportColumn> columns = List.of(ExportColumn.values());
+        StreamingResponseBody body = out -> exportService.export(ExportFormat.NDJSON, columns, null, false, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * EXPORTAR ESTUDIANTES
+     * GET /api/students/export?format=csv&columns=id,email&active=true&gzip=true
+     * @param format - csv (por defecto) o ndjson
+     * @param columns - Columnas separadas por coma (vacio = todas)
+     * @param active - Solo activos (true) o inactivos (false); sin valor = todos
+     * @param gzip - Descarga comprimida (.gz); la compresión de Tomcat no se aplica
+     * Los parámetros se validan antes de empezar a escribir; las filas salen
+     * del cursor JDBC a medida que se leen (memoria constante).
+     * @return 200 OK + archivo adjunto (400 si el formato o una columna no existe)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format,
+                                                        @RequestParam(required = false) String columns,
+                                                        @RequestParam(required = false) Boolean active,
+                                                        @RequestParam(defaultValue = "false") boolean gzip){
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        List<ExportColumn> exportColumns = ExportColumn.parse(columns);
+        String filename = "students." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out -> exportService.export(exportFormat, exportColumns, active, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * LISTAR POR PAGINAS (CURSOR)
+     * GET /api/students/cursor?cursor=...&size=50
+     * @param cursor - Token devuelto en la pagina anterior (vacio para la primera)
+     * @param size - Tamaño de pagina (1 a 500, por defecto 50)
+     * @return 200 OK + pagina de estudiantes y siguiente cursor (400 si el cursor no es valido)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<StudentPage> getPage(@RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size){
+        return ResponseEntity.ok(studentService.listPage(cursor, size));
+    }
+
+    /**
+     * BUSCAR POR NOMBRE
+     * GET /api/students/search?name=jose nunez&page=0&size=20
+     * No distingue mayúsculas ni tildes; tolera pequeños errores de tipeo
+     * @param name - Texto a buscar
+     * @param page - Página (desde 0)
+     * @param size - Resultados por página (1 a 500, por defecto 50)
+     * @return 200 OK + resultados ordenados por relevancia
+     */
+    @GetMapping("/search")
+    public ResponseEntity<StudentSearchPage> searchByName(@RequestParam String name,
+                                                          @RequestParam(required = false) Integer page,
+                                                          @RequestParam(required = false) Integer size){
+        return ResponseEntity.ok(studentService.searchByName(name, page, size));
     }
 
     /**
@@ -81,6 +232,41 @@ public class StudentController {
         return ResponseEntity.ok(studentService.deactivate(id));
     }
 
+    /**
+     * CAMBIO MASIVO DE ESTADO
+     * PATCH /api/students/status
+     * Body: { "active": false, "ids": [1, 2, 3] }
+     *   o   { "active": false, "emailDomain": "espe.edu.ec", "birthDateTo": "2000-12-31" }
+     * Opcional: "expectedVersions": { "1": 0 } para detectar cambios concurrentes
+     * @return 200 OK + conteos, ids no encontrados y conflictos (400 si la selección no es válida)
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<StudentStatusChangeReport> changeStatus(@Valid @RequestBody StudentStatusChangeRequest request){
+        return ResponseEntity.ok(statusService.changeStatus(request));
+    }
+
+    /**
+     * IMPORTACIÓN MASIVA (JSON)
+     * POST /api/students/import con un arreglo de StudentRequestData
+     * Cada fila se valida por separado: las filas inválidas no detienen la importación
+     * @return 200 OK + reporte por fila (CREATED / INVALID / DUPLICATE)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StudentImportReport> importJson(@RequestBody List<StudentRequestData> rows){
+        return ResponseEntity.ok(importService.importRows(rows));
+    }
+
+    /**
+     * IMPORTACIÓN MASIVA (CSV)
+     * POST /api/students/import con Content-Type: text/csv
+     * Cabecera requerida: fullName,email[,birthDate]
+     * @return 200 OK + reporte por fila (400 si falta la cabecera)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<StudentImportReport> importCsv(Reader csv) throws IOException {
+        return ResponseEntity.ok(importService.importCsv(csv));
+    }
+
     // ==================== FUNCIONALIDADES PARA EXAMEN (COMENTADAS) ====================
     // Descomenta solo lo que necesites implementar
 
@@ -109,14 +295,6 @@ public class StudentController {
     }
     */
 
-    /*
-    // 4. BUSCAR POR NOMBRE - Búsqueda con LIKE (10 min)
-    @GetMapping("/search")
-    public ResponseEntity<List<StudentResponse>> searchByName(@RequestParam String name){
-        return ResponseEntity.ok(studentService.searchByName(name));
-    }
-    */
-
     /*
     // 5. PAGINACIÓN - Listar con paginación (20 min)
     @GetMapping("/page")
@@ -0,0 +1,35 @@
+package edu.espe.springlab.web.controller;
+
+import edu.espe.springlab.dto.StudentLookupRequest;
+import edu.espe.springlab.dto.StudentLookupResponse;
+import edu.espe.springlab.service.StudentLookupService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST CONTROLLER - Lectura de estudiantes por lote
+ * 
+ * POST /api/students/lookup
+ *   {"ids": [1, 2, 3]}  o  {"emails": ["a@x.com", "b@x.com"]}
+ * → Un resultado por valor pedido, en el mismo orden, con found = false
+ *   para los que no existen (máx 1000 valores por petición)
+ * 
+ * Es POST para no depender del largo máximo de la URL.
+ */
+@RestController
+@RequestMapping("/api/students")
+public class StudentLookupController {
+
+    private final StudentLookupService lookupService;
+
+    public StudentLookupController(StudentLookupService lookupService) { this.lookupService = lookupService; }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<StudentLookupResponse> lookup(@Valid @RequestBody StudentLookupRequest request){
+        return ResponseEntity.ok(lookupService.lookup(request));
+    }
+}
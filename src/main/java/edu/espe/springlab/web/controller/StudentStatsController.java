@@ -0,0 +1,32 @@
+package edu.espe.springlab.web.controller;
+
+import edu.espe.springlab.dto.StudentStats;
+import edu.espe.springlab.service.stats.StudentStatistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST CONTROLLER - Estadísticas de estudiantes
+ * 
+ * GET /api/students/stats?topDomains=10 → Activos/inactivos, rangos de edad
+ * y dominios de email más frecuentes
+ * 
+ * Los valores se leen de contadores en memoria (StudentStatistics):
+ * el costo no depende del tamaño de la tabla.
+ */
+@RestController
+@RequestMapping("/api/students")
+public class StudentStatsController {
+
+    private final StudentStatistics statistics;
+
+    public StudentStatsController(StudentStatistics statistics) { this.statistics = statistics; }
+
+    @GetMapping("/stats")
+    public ResponseEntity<StudentStats> stats(@RequestParam(defaultValue = "10") int topDomains){
+        return ResponseEntity.ok(statistics.snapshot(topDomains));
+    }
+}
@@ -0,0 +1,49 @@
+package edu.espe.springlab.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.export.StudentJsonWriter;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * SERIALIZADOR DE StudentResponse
+ *
+ * Reemplaza al BeanSerializer de Jackson para el DTO más usado: escribe los
+ * campos directamente con StudentJsonWriter (nombres pre-codificados, active
+ * primitivo, fechas formateadas una sola vez). El JSON es el mismo que antes.
+ *
+ * @JsonComponent lo registra en el builder de Jackson de Spring Boot, así
+ * aplica a JSON, CBOR y Smile (WebConfig usa el mismo builder).
+ *
+ * Si se habilita write-dates-as-timestamps, las fechas se delegan a los
+ * serializadores de Jackson para respetar ese formato.
+ */
+@JsonComponent
+public class StudentResponseSerializer extends StdSerializer<StudentResponse> {
+
+    public StudentResponseSerializer() {
+        super(StudentResponse.class);
+    }
+
+    @Override
+    public void serialize(StudentResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            StudentJsonWriter.write(gen, value);
+            return;
+        }
+        gen.writeStartObject(value);
+        provider.defaultSerializeField("id", value.id(), gen);
+        provider.defaultSerializeField("fullName", value.fullName(), gen);
+        provider.defaultSerializeField("email", value.email(), gen);
+        provider.defaultSerializeField("birthDate", value.birthDate(), gen);
+        gen.writeBooleanField("active", value.active());
+        provider.defaultSerializeField("version", value.version(), gen);
+        provider.defaultSerializeField("updatedAt", value.updatedAt(), gen);
+        gen.writeEndObject();
+    }
+}
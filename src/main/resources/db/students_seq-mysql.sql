@@ -0,0 +1,18 @@
+-- Secuencia de ids de estudiantes para MySQL (perfil prod, ddl-auto: validate)
+--
+-- MySQL no tiene secuencias: Hibernate emula students_seq con una tabla de
+-- una fila (next_val). Con ddl-auto: validate nadie la crea, asi que hay que
+-- aplicar este script antes de desplegar la version con ids por secuencia.
+--
+-- La fila se siembra en max(id) + allocationSize (50) + 1, el mismo valor que
+-- usa StudentIdSequenceInitializer, para que los bloques nuevos no choquen con
+-- los ids de AUTO_INCREMENT existentes. Es idempotente: no toca una fila ya creada.
+
+CREATE TABLE IF NOT EXISTS students_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO students_seq (next_val)
+SELECT COALESCE(MAX(s.id) + 50 + 1, 1)
+FROM students s
+WHERE NOT EXISTS (SELECT 1 FROM students_seq);
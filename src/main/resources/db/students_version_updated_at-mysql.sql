@@ -0,0 +1,22 @@
+-- Columnas de concurrencia optimista y de ultima modificacion (MySQL, perfil prod)
+--
+-- Student.version (@Version) y Student.updatedAt, con el indice
+-- idx_students_updated_at, se agregaron a una tabla students que ya existia.
+-- Con ddl-auto: validate nadie las crea y el arranque falla la validacion, asi
+-- que este script se aplica una vez sobre el esquema anterior, antes de
+-- desplegar (junto con students_seq-mysql.sql).
+--
+-- Relleno de las filas existentes:
+-- - version = 0 (la columna nueva es NOT NULL DEFAULT 0)
+-- - updated_at = momento de la migracion (no se conoce la modificacion real;
+--   ejecutar con la misma zona horaria de sesion que usa la aplicacion)
+
+ALTER TABLE students
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NULL;
+
+UPDATE students SET version = 0 WHERE version IS NULL;
+
+UPDATE students SET updated_at = CURRENT_TIMESTAMP(6) WHERE updated_at IS NULL;
+
+CREATE INDEX idx_students_updated_at ON students (updated_at);
@@ -0,0 +1,105 @@
+package edu.espe.springlab.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuditLogTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteBehindAndReplayAcrossSegmentsAndRestarts() throws Exception {
+        // Segmentos muy pequeños para forzar varios archivos
+        AuditLog audit = new AuditLog(mapper, directory, 1024, 8, 512, FsyncPolicy.BATCH, 1000);
+        for (long id = 1; id <= 20; id++) {
+            audit.onStudentChanged(StudentChangedEvent.created(student(id)));
+        }
+        audit.shutdown();
+
+        AuditLog reopened = new AuditLog(mapper, directory, 1024, 8, 512, FsyncPolicy.BATCH, 1000);
+        reopened.onStudentChanged(StudentChangedEvent.updated(student(1L), true));
+        reopened.shutdown();
+
+        AuditLog reader = new AuditLog(mapper, directory, 1024, 8, 512, FsyncPolicy.NEVER, 1000);
+        AuditPage first = reader.read(1, 15);
+        AuditPage rest = reader.read(first.nextSince(), 100);
+        reader.shutdown();
+
+        assertThat(first.records()).hasSize(15);
+        assertThat(first.records().get(0).sequence()).isEqualTo(1);
+        assertThat(rest.records()).hasSize(6);
+        AuditRecord last = rest.records().get(5);
+        assertThat(last.sequence()).isEqualTo(21);
+        assertThat(last.type()).isEqualTo("UPDATED");
+        assertThat(last.previousActive()).isTrue();
+        assertThat(reader.droppedCount()).isZero();
+    }
+
+    @Test
+    void shouldWakeIdleWriterWhenAnEventArrives() throws Exception {
+        AuditLog audit = new AuditLog(mapper, directory, 1024, 8, 1 << 20, FsyncPolicy.BATCH, 1000);
+        try {
+            // El escritor ya está dormido: sin el unpark esperaría el timeout de 1 s
+            Thread.sleep(50);
+            audit.onStudentChanged(StudentChangedEvent.created(student(1L)));
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (audit.pendingCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(audit.pendingCount()).isZero();
+        } finally {
+            audit.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDropPartialLineLeftByACrashBeforeAppending() throws Exception {
+        AuditLog audit = new AuditLog(mapper, directory, 1024, 8, 1 << 20, FsyncPolicy.BATCH, 1000);
+        for (long id = 1; id <= 3; id++) {
+            audit.onStudentChanged(StudentChangedEvent.created(student(id)));
+        }
+        audit.shutdown();
+
+        // Caída a mitad de una escritura: la cuarta línea queda sin salto final
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(p -> p.getFileName().toString().startsWith("audit-")).findFirst().orElseThrow();
+        }
+        Files.writeString(segment, "4\t{\"sequence\":4,\"ty", StandardOpenOption.APPEND);
+
+        AuditLog reopened = new AuditLog(mapper, directory, 1024, 8, 1 << 20, FsyncPolicy.BATCH, 1000);
+        reopened.onStudentChanged(StudentChangedEvent.updated(student(2L), true));
+        reopened.shutdown();
+
+        AuditLog reader = new AuditLog(mapper, directory, 1024, 8, 1 << 20, FsyncPolicy.NEVER, 1000);
+        AuditPage page = reader.read(1, 100);
+        reader.shutdown();
+
+        assertThat(page.records()).extracting(AuditRecord::sequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(page.records().get(3).type()).isEqualTo("UPDATED");
+        assertThat(page.nextSince()).isEqualTo(5);
+    }
+
+    private static StudentResponse student(Long id) {
+        return new StudentResponse(id, "Audit " + id, "audit" + id + "@example.com", LocalDate.of(2000, 1, 1), true,
+                0L, Instant.now());
+    }
+}
@@ -0,0 +1,92 @@
+package edu.espe.springlab.cache;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.StudentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class StudentCacheInvalidatorTest {
+
+    @Autowired
+    private StudentService service;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheInvalidationTransport transport;
+
+    @Autowired
+    private StudentCacheInvalidator invalidator;
+
+    @Test
+    void shouldResolveEmailsFromTheNaturalIdCache() {
+        service.create(new StudentRequestData("Natural Id", "natural.id@example.com", null));
+        assertThat(repository.findByEmail("natural.id@example.com")).isPresent();
+
+        NaturalIdStatistics stats = statistics().getNaturalIdStatistics(Student.class.getName());
+        long queries = stats.getExecutionCount();
+        long hits = stats.getCacheHitCount();
+
+        assertThat(repository.existsByEmail("natural.id@example.com")).isTrue();
+        assertThat(stats.getExecutionCount()).isEqualTo(queries);
+        assertThat(stats.getCacheHitCount()).isEqualTo(hits + 1);
+        assertThat(repository.existsByEmail("nobody@example.com")).isFalse();
+    }
+
+    @Test
+    void shouldEvictWhenAnotherNodeChangesAStudent() {
+        StudentResponse created = service.create(new StudentRequestData("Remote Change", "remote.change@example.com", null));
+        repository.findById(created.id());
+        service.getById(created.id());
+        assertThat(entityManagerFactory.getCache().contains(Student.class, created.id())).isTrue();
+        long received = invalidator.getReceived();
+
+        // Otro nodo confirma un cambio del mismo estudiante
+        transport.publish(new CacheInvalidation("other-node", created.id()));
+
+        assertThat(invalidator.getReceived()).isEqualTo(received + 1);
+        assertThat(entityManagerFactory.getCache().contains(Student.class, created.id())).isFalse();
+        assertThat(cacheManager.getCache(CacheConfig.STUDENTS_CACHE).get(created.id())).isNull();
+    }
+
+    @Test
+    void shouldPublishLocalChangesAndIgnoreItsOwnMessages() {
+        List<CacheInvalidation> sent = new CopyOnWriteArrayList<>();
+        transport.subscribe(sent::add);
+        StudentResponse created = service.create(new StudentRequestData("Local Change", "local.change@example.com", null));
+        long received = invalidator.getReceived();
+
+        service.deactivate(created.id());
+
+        assertThat(sent).contains(new CacheInvalidation(invalidator.getNodeId(), created.id()));
+        assertThat(invalidator.getReceived()).isEqualTo(received);
+        assertThat(entityManagerFactory.getCache().contains(Student.class, created.id())).isTrue();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,110 @@
+package edu.espe.springlab.changes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StudentChangeFeedTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldServeDeltasFromMemoryAndSpillAcrossRestarts() throws Exception {
+        // Buffer de 8 cambios: los primeros solo quedan en disco
+        StudentChangeFeed feed = new StudentChangeFeed(mapper, directory, 8, 4096, 16);
+        for (long id = 1; id <= 20; id++) {
+            feed.onStudentChanged(StudentChangedEvent.created(student(id)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (feed.getSpilledSequence() < 20 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feed.getSpilledSequence()).isEqualTo(20);
+
+        StudentChangePage fromDisk = feed.read(1, 5);
+        assertThat(fromDisk.gap()).isFalse();
+        assertThat(fromDisk.changes()).extracting(StudentChange::sequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(fromDisk.changes().get(0).student().email()).isEqualTo("change1@example.com");
+
+        StudentChangePage tail = feed.read(10, 100);
+        assertThat(tail.changes()).hasSize(11);
+        assertThat(tail.nextSince()).isEqualTo(21);
+        assertThat(feed.read(21, 100).changes()).isEmpty();
+        feed.shutdown();
+
+        StudentChangeFeed reopened = new StudentChangeFeed(mapper, directory, 8, 4096, 16);
+        reopened.onStudentChanged(StudentChangedEvent.updated(student(3L), true));
+        StudentChangePage afterRestart = reopened.read(19, 100);
+        reopened.shutdown();
+
+        assertThat(afterRestart.changes()).extracting(StudentChange::sequence).containsExactly(19L, 20L, 21L);
+        StudentChange last = afterRestart.changes().get(2);
+        assertThat(last.type()).isEqualTo("UPDATED");
+        assertThat(last.previousActive()).isTrue();
+    }
+
+    @Test
+    void shouldNotReuseSequencesAfterACrash() throws Exception {
+        StudentChangeFeed feed = new StudentChangeFeed(mapper, directory, 1024, 1 << 20, 16);
+        for (long id = 1; id <= 3; id++) {
+            feed.onStudentChanged(StudentChangedEvent.created(student(id)));
+        }
+        feed.shutdown();
+        // Caída: el marcador queda y las secuencias 4 y 5 se entregaron pero no llegaron a disco
+        Files.createFile(directory.resolve(StudentChangeFeed.RUNNING_MARKER));
+
+        StudentChangeFeed restarted = new StudentChangeFeed(mapper, directory, 1024, 1 << 20, 16);
+        restarted.onStudentChanged(StudentChangedEvent.created(student(9L)));
+        long first = StudentChangeFeed.nextGeneration(3) + 1;
+
+        StudentChangePage resumed = restarted.read(6, 100);
+        assertThat(resumed.gap()).isTrue();
+        assertThat(resumed.changes()).extracting(StudentChange::sequence).containsExactly(first);
+        assertThat(resumed.changes().get(0).student().id()).isEqualTo(9L);
+
+        // Lo que sí llegó a disco se sigue leyendo sin gap
+        StudentChangePage fromDisk = restarted.read(2, 2);
+        assertThat(fromDisk.gap()).isFalse();
+        assertThat(fromDisk.changes()).extracting(StudentChange::sequence).containsExactly(2L, 3L);
+        restarted.shutdown();
+    }
+
+    @Test
+    void shouldCompleteLongPollsOnTheNextChangeOrAfterTheWait() throws Exception {
+        StudentChangeFeed feed = new StudentChangeFeed(mapper, directory, 1024, 1 << 20, 16);
+
+        CompletableFuture<StudentChangePage> waiting = feed.poll(1, 10, 10_000);
+        CompletableFuture<StudentChangePage> expiring = feed.poll(1, 10, 50);
+        assertThat(waiting).isNotDone();
+        assertThat(expiring.get(5, TimeUnit.SECONDS).changes()).isEmpty();
+        assertThat(expiring.get().nextSince()).isEqualTo(1);
+
+        feed.onStudentChanged(StudentChangedEvent.created(student(7L)));
+
+        StudentChangePage page = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(page.changes()).extracting(StudentChange::sequence).containsExactly(1L);
+        assertThat(page.nextSince()).isEqualTo(2);
+        assertThat(feed.getWaiting()).isZero();
+        feed.shutdown();
+    }
+
+    private static StudentResponse student(Long id) {
+        return new StudentResponse(id, "Change " + id, "change" + id + "@example.com", LocalDate.of(2000, 1, 1), true,
+                0L, Instant.now());
+    }
+}
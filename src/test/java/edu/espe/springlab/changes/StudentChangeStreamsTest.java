@@ -0,0 +1,103 @@
+package edu.espe.springlab.changes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StudentChangeStreamsTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldKeepDeliveringWhenSomeSubscribersStopReading() throws Exception {
+        StudentChangeFeed feed = new StudentChangeFeed(mapper, directory, 1024, 1 << 20, 16);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<SseEmitter> emitters = new ArrayList<>();
+        // Más clientes bloqueados que los hilos del antiguo pool fijo (4)
+        for (int i = 0; i < 8; i++) {
+            emitters.add(new BlockedEmitter(release));
+        }
+        emitters.add(new RecordingEmitter(delivered));
+
+        StudentChangeStreams streams = new StudentChangeStreams(feed, 100, 60_000, 50) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitters.remove(0);
+            }
+        };
+        try {
+            for (int i = 0; i < 9; i++) {
+                streams.subscribe(null);
+            }
+            feed.onStudentChanged(StudentChangedEvent.created(student(1L)));
+
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Los envíos bloqueados más que send-timeout-ms se desconectan en el heartbeat
+            Thread.sleep(100);
+            streams.heartbeat();
+            assertThat(streams.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            streams.shutdown();
+            feed.shutdown();
+        }
+    }
+
+    // Cliente que no lee: cada envío queda bloqueado hasta liberar el latch
+    private static final class BlockedEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        BlockedEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    // Cliente normal: avisa al recibir el primer evento
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch delivered;
+
+        RecordingEmitter(CountDownLatch delivered) {
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            delivered.countDown();
+        }
+    }
+
+    private static StudentResponse student(Long id) {
+        return new StudentResponse(id, "Stream " + id, "stream" + id + "@example.com", LocalDate.of(2000, 1, 1), true,
+                0L, Instant.now());
+    }
+}
@@ -0,0 +1,43 @@
+package edu.espe.springlab.config;
+
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(StudentIdSequenceInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class StudentIdSequenceInitializerTest {
+
+    @Autowired
+    private StudentIdSequenceInitializer initializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Test
+    void shouldMoveSequenceAboveIdsCreatedBeforeTheMigration() {
+        // Fila con un id de AUTO_INCREMENT anterior a la secuencia
+        jdbcTemplate.update("insert into students (id, full_name, email, active, version) values (?, ?, ?, ?, ?)",
+                1000L, "Legacy Student", "legacy@example.com", true, 0L);
+
+        initializer.afterPropertiesSet();
+
+        Student student = new Student();
+        student.setFullName("New Student");
+        student.setEmail("new@example.com");
+        student.setActive(true);
+        assertThat(repository.save(student).getId()).isGreaterThan(1000L);
+    }
+}
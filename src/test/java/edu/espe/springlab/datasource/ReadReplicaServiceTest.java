@@ -0,0 +1,108 @@
+package edu.espe.springlab.datasource;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.service.StudentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Primario y réplica son dos bases H2; la réplica tiene el esquema pero nunca recibe filas (retraso)
+@SpringBootTest(properties = {
+        "app.datasource.read-replicas.enabled=true",
+        "app.datasource.read-replicas.nodes[0].name=replica",
+        "app.datasource.read-replicas.nodes[0].url=jdbc:h2:mem:replica-lag;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "app.datasource.read-replicas.nodes[0].username=sa",
+        "app.datasource.read-replicas.nodes[0].password="
+})
+@AutoConfigureMockMvc
+public class ReadReplicaServiceTest {
+
+    @Autowired
+    private StudentService service;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routing;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        List<String> ddl = new JdbcTemplate(routing.getPools().get(0)).queryForList("script nodata", String.class);
+        JdbcTemplate replica = new JdbcTemplate(routing.getReplicas().get(0).getDataSource());
+        replica.execute("drop all objects");
+        ddl.stream().filter(sql -> !sql.startsWith("CREATE USER")).forEach(replica::execute);
+    }
+
+    @Test
+    void shouldDeactivateAStudentTheReplicaHasNotReceived() {
+        StudentResponse created = service.create(new StudentRequestData("Replica Lag", "replica.lag@example.com", null));
+
+        // Las lecturas de solo lectura van a la réplica, que aún no tiene la fila
+        assertThat(service.list()).extracting(StudentResponse::id).doesNotContain(created.id());
+
+        // Sin cachés: deactivate tiene que leer la fila de la BD
+        entityManagerFactory.getCache().evictAll();
+        cacheManager.getCache(CacheConfig.STUDENTS_CACHE).clear();
+
+        StudentResponse deactivated = service.deactivate(created.id());
+        assertThat(deactivated.active()).isFalse();
+        assertThat(deactivated.version()).isEqualTo(created.version() + 1);
+    }
+
+    @Test
+    void shouldNotValidateAStaleReplicaListWithThePrimaryVersion() throws Exception {
+        StudentResponse replicated = service.create(new StudentRequestData("Replica Seed", "replica.seed@example.com", null));
+        // La réplica recibe la primera alta pero no la segunda (va atrasada)
+        Map<String, Object> row = new JdbcTemplate(routing.getPools().get(0))
+                .queryForMap("select * from students where id = ?", replicated.id());
+        new SimpleJdbcInsert(routing.getReplicas().get(0).getDataSource()).withTableName("students").execute(row);
+        service.create(new StudentRequestData("Replica Behind", "replica.behind@example.com", null));
+
+        MvcResult first = mvc.perform(get("/api/students"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String body = first.getResponse().getContentAsString();
+        assertThat(body).contains("replica.seed@example.com").doesNotContain("replica.behind@example.com");
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotEqualTo(service.listVersion().etag());
+
+        // El ETag describe la lista vieja: el cliente vuelve a recibir la lista, no un 304
+        mvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldFillCachesFromThePrimary() {
+        StudentResponse created = service.create(new StudentRequestData("Replica Cache", "replica.cache@example.com", null));
+        cacheManager.getCache(CacheConfig.STUDENTS_CACHE).clear();
+
+        // La réplica no tiene la fila, pero lo que queda en caché viene del primario
+        assertThat(service.getById(created.id()).email()).isEqualTo("replica.cache@example.com");
+        assertThat(service.listVersion().count()).isPositive();
+    }
+}
@@ -0,0 +1,135 @@
+package edu.espe.springlab.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dos bases H2 en memoria hacen de primario y réplica; cada una guarda su nombre en la tabla node
+public class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = h2("rw-primary");
+    private final DataSource replica = h2("rw-replica-1");
+    private final DataSource secondReplica = h2("rw-replica-2");
+
+    @BeforeEach
+    void createNodes() {
+        name(primary, "primary");
+        name(replica, "replica-1");
+        name(secondReplica, "replica-2");
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldReadFromReplicaOnlyInReadOnlyTransactions() {
+        Routing routing = new Routing(List.of(new ReplicaNode("replica-1", replica)), ReplicaSelector.roundRobin());
+
+        assertThat(routing.nodeIn(true)).isEqualTo("replica-1");
+        assertThat(routing.nodeIn(false)).isEqualTo("primary");
+        // Sin transacción: primario
+        assertThat(routing.jdbc.queryForObject("select name from node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldAlternateReplicasWithRoundRobin() {
+        Routing routing = new Routing(List.of(new ReplicaNode("replica-1", replica), new ReplicaNode("replica-2", secondReplica)),
+                ReplicaSelector.roundRobin());
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(routing.nodeIn(true));
+        }
+        assertThat(nodes).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(routing.dataSource.getRoutedCounts()).containsEntry("replica-1", 2L).containsEntry("replica-2", 2L);
+    }
+
+    @Test
+    void shouldReadFromPrimaryAfterAWriteInTheSameRequest() {
+        Routing routing = new Routing(List.of(new ReplicaNode("replica-1", replica)), ReplicaSelector.roundRobin());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThat(routing.nodeIn(true)).isEqualTo("replica-1");
+        new TransactionTemplate(routing.transactions).executeWithoutResult(status ->
+                routing.jdbc.update("insert into node (name) values ('written')"));
+        assertThat(routing.nodeIn(true)).isEqualTo("primary");
+
+        // Otra petición vuelve a leer de la réplica
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(routing.nodeIn(true)).isEqualTo("replica-1");
+    }
+
+    @Test
+    void shouldSkipReplicasThatFailAndFallBackToPrimary() {
+        ReplicaNode broken = new ReplicaNode("broken", new DriverManagerDataSource("jdbc:unknown:replica"));
+        Routing routing = new Routing(List.of(broken), ReplicaSelector.roundRobin());
+
+        assertThat(routing.nodeIn(true)).isEqualTo("primary");
+        assertThat(broken.isUp()).isFalse();
+
+        routing.dataSource.probe();
+        assertThat(broken.isUp()).isFalse();
+    }
+
+    @Test
+    void shouldMeasureReplicasBeforeChoosingByLatency() {
+        ReplicaNode fast = new ReplicaNode("replica-1", replica);
+        ReplicaNode down = new ReplicaNode("broken", new DriverManagerDataSource("jdbc:unknown:replica"));
+        Routing routing = new Routing(List.of(down, fast), ReplicaSelector.leastLatency());
+
+        routing.dataSource.probe();
+
+        assertThat(fast.isUp()).isTrue();
+        assertThat(fast.getLatencyNanos()).isPositive();
+        assertThat(routing.nodeIn(true)).isEqualTo("replica-1");
+    }
+
+    // Datasource de enrutamiento detrás del proxy perezoso, como en ReadReplicaConfig
+    private class Routing {
+        final ReadWriteRoutingDataSource dataSource;
+        final DataSourceTransactionManager transactions;
+        final JdbcTemplate jdbc;
+
+        Routing(List<ReplicaNode> replicas, ReplicaSelector selector) {
+            this.dataSource = new ReadWriteRoutingDataSource(primary, replicas, selector);
+            DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+            this.transactions = new DataSourceTransactionManager(lazy);
+            this.jdbc = new JdbcTemplate(lazy);
+        }
+
+        // Nombre de la base que atiende una transacción (de solo lectura o de escritura)
+        String nodeIn(boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(transactions);
+            template.setReadOnly(readOnly);
+            return template.execute(status ->
+                    jdbc.queryForObject("select name from node order by name fetch first 1 rows only", String.class));
+        }
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void name(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(20))");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node (name) values (?)", name);
+    }
+}
@@ -0,0 +1,26 @@
+package edu.espe.springlab.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void shouldShrinkConcurrencyLimitWhenLatencyExceedsTarget() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1_000_000L, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        // Rapida con el limite ocupado: crece en 1
+        limiter.release(10_000L);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        // Lenta: se reduce a la mitad
+        limiter.release(50_000_000L);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package edu.espe.springlab.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.client-header=X-Client-Id",
+        "app.rate-limit.trusted-proxies[0]=10.0.0.1",
+        "app.rate-limit.routes[0].method=GET",
+        "app.rate-limit.routes[0].pattern=/api/students",
+        "app.rate-limit.routes[0].rate-per-second=0.1",
+        "app.rate-limit.routes[0].burst=1"
+})
+@AutoConfigureMockMvc
+public class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void shouldRejectClientOverItsRouteLimitWithRetryAfter() throws Exception {
+        mvc.perform(get("/api/students").header("X-Client-Id", "dashboard").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/students").header("X-Client-Id", "dashboard").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        // Otro cliente detrás del proxy tiene su propio bucket
+        mvc.perform(get("/api/students").header("X-Client-Id", "reports").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldIgnoreClientHeaderFromUntrustedAddress() throws Exception {
+        mvc.perform(get("/api/students").header("X-Client-Id", "first").with(remoteAddr("192.168.1.50")))
+                .andExpect(status().isOk());
+
+        // Cambiar el header no da un bucket nuevo: el cliente es la IP
+        mvc.perform(get("/api/students").header("X-Client-Id", "second").with(remoteAddr("192.168.1.50")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
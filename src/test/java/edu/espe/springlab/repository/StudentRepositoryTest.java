@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,4 +31,24 @@ public class StudentRepositoryTest {
         assertThat(result).isPresent();
         assertThat(result.get().getFullName()).isEqualTo("Test User");
     }
+
+    @Test
+    void shouldStreamNullActiveRowsAsActive() {
+        Student legacy = new Student();
+        legacy.setFullName("Legacy User");
+        legacy.setEmail("legacy@example.com");
+        legacy.setActive(null);
+        repository.save(legacy);
+        Student inactive = new Student();
+        inactive.setFullName("Inactive User");
+        inactive.setEmail("inactive@example.com");
+        inactive.setActive(false);
+        repository.save(inactive);
+
+        try (Stream<Object[]> rows = repository.streamRowsByActive(true)) {
+            List<Object[]> active = rows.toList();
+            assertThat(active).extracting(row -> row[2]).containsExactly("legacy@example.com");
+            assertThat(active.get(0)[4]).isEqualTo(true);
+        }
+    }
 }
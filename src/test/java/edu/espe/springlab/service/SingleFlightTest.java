@@ -0,0 +1,81 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.service.coalesce.SingleFlight;
+import edu.espe.springlab.web.advice.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> flight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "student-1";
+                })));
+            }
+            // Espera a que el lider este cargando y los demas esperando
+            while (flight.getLoads() + flight.getShared() < 8) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("student-1");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.getShared()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldReuseResultWithinWindowUntilForgotten() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(flight.execute("all", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.execute("all", loads::incrementAndGet)).isEqualTo(1);
+
+        flight.forget("all");
+        assertThat(flight.execute("all", loads::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotKeepFailedLoads() {
+        SingleFlight<Long, String> flight = new SingleFlight<>(60_000);
+
+        assertThatThrownBy(() -> flight.execute(9L, () -> {
+            throw new NotFoundException("Estudiante no encontrado");
+        })).isInstanceOf(NotFoundException.class);
+
+        assertThat(flight.execute(9L, () -> "created later")).isEqualTo("created later");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
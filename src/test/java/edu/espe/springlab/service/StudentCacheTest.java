@@ -0,0 +1,42 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class StudentCacheTest {
+
+    @Autowired
+    private StudentService service;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void shouldServeRepeatedReadsFromCacheAndRefreshOnWrite() {
+        StudentRequestData req = new StudentRequestData("Cache User", "cache.user@example.com", null);
+        StudentResponse created = service.create(req);
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.STUDENTS_CACHE);
+        long hitsBefore = cache.getNativeCache().stats().hitCount();
+
+        // Se borra la fila directamente: si la lectura va a la BD fallaria con 404
+        repository.deleteById(created.id());
+        StudentResponse cached = service.getById(created.id());
+
+        assertThat(cached.email()).isEqualTo("cache.user@example.com");
+        assertThat(cache.getNativeCache().stats().hitCount()).isEqualTo(hitsBefore + 1);
+    }
+}
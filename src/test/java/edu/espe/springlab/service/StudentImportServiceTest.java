@@ -0,0 +1,159 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentImportReport;
+import edu.espe.springlab.dto.StudentImportResult;
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.impl.StudentImportServiceImpl;
+import edu.espe.springlab.service.index.StudentEmailIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "app.students.import.batch-size=2")
+@Import({StudentImportServiceImpl.class, StudentEmailIndex.class, LocalValidatorFactoryBean.class})
+public class StudentImportServiceTest {
+
+    @Autowired
+    private StudentImportServiceImpl importService;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentEmailIndex emailIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldReportEachRowOfJsonImport() {
+        Student existing = new Student();
+        existing.setFullName("Existing");
+        existing.setEmail("taken@example.com");
+        existing.setActive(true);
+        repository.save(existing);
+
+        StudentImportReport report = importService.importRows(List.of(
+                request("Ana Torres", "ana@example.com"),
+                request("Luis Mora", "taken@example.com"),
+                request("X", "not-an-email"),
+                request("Ana Copia", "ana@example.com"),
+                request("Pedro Vega", "pedro@example.com")));
+
+        assertThat(report.getTotal()).isEqualTo(5);
+        assertThat(report.getCreated()).isEqualTo(2);
+        assertThat(report.getRows()).extracting(StudentImportResult::getStatus).containsExactly(
+                StudentImportResult.Status.CREATED,
+                StudentImportResult.Status.DUPLICATE,
+                StudentImportResult.Status.INVALID,
+                StudentImportResult.Status.DUPLICATE,
+                StudentImportResult.Status.CREATED);
+        assertThat(report.getRows().get(0).getId()).isNotNull();
+        assertThat(repository.findByEmail("pedro@example.com")).isPresent();
+    }
+
+    @Test
+    void shouldImportCsvWithQuotedValues() throws Exception {
+        String csv = """
+                fullName,email,birthDate
+                "Perez, Juan",juan@example.com,2000-05-15
+                Maria Lopez,maria@example.com,15/05/2000
+                """;
+
+        StudentImportReport report = importService.importCsv(new StringReader(csv));
+
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getRows().get(1).getStatus()).isEqualTo(StudentImportResult.Status.INVALID);
+        assertThat(repository.findByEmail("juan@example.com"))
+                .get()
+                .extracting(Student::getFullName, Student::getBirthDate)
+                .containsExactly("Perez, Juan", LocalDate.of(2000, 5, 15));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldReportRacingDuplicatePerRowAndKeepTheOtherRows() {
+        // Otra petición confirma race@example.com entre la consulta IN y el flush del lote
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean raced = new AtomicBoolean();
+        StudentRepository racingRepository = mock(StudentRepository.class, delegatesTo(repository));
+        doAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            List<String> existing = repository.findExistingEmails(emails);
+            if (emails.contains("race@example.com") && raced.compareAndSet(false, true)) {
+                concurrent.executeWithoutResult(status -> {
+                    Student winner = new Student();
+                    winner.setFullName("Ganador");
+                    winner.setEmail("race@example.com");
+                    winner.setActive(true);
+                    repository.save(winner);
+                });
+            }
+            return existing;
+        }).when(racingRepository).findExistingEmails(anyCollection());
+        StudentImportServiceImpl racingImport = new StudentImportServiceImpl(racingRepository, emailIndex,
+                entityManager, validator, events, transactionManager, 2);
+        List<String> emails = List.of("first@example.com", "second@example.com", "race@example.com", "third@example.com");
+
+        try {
+            StudentImportReport report = racingImport.importRows(List.of(
+                    request("Primero", "first@example.com"),
+                    request("Segundo", "second@example.com"),
+                    request("Perdedor", "race@example.com"),
+                    request("Tercero", "third@example.com")));
+
+            assertThat(raced).isTrue();
+            assertThat(report.getRows()).extracting(StudentImportResult::getStatus).containsExactly(
+                    StudentImportResult.Status.CREATED,
+                    StudentImportResult.Status.CREATED,
+                    StudentImportResult.Status.DUPLICATE,
+                    StudentImportResult.Status.CREATED);
+            assertThat(report.getRows().get(3).getId()).isNotNull();
+            assertThat(repository.findExistingEmails(emails)).hasSize(4);
+            assertThat(repository.findByEmail("race@example.com"))
+                    .get()
+                    .extracting(Student::getFullName)
+                    .isEqualTo("Ganador");
+        } finally {
+            emails.forEach(email -> repository.findByEmail(email).ifPresent(repository::delete));
+        }
+    }
+
+    private static StudentRequestData request(String fullName, String email) {
+        return new StudentRequestData(fullName, email, null);
+    }
+}
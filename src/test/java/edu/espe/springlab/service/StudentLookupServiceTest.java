@@ -0,0 +1,106 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentLookupRequest;
+import edu.espe.springlab.dto.StudentLookupResponse;
+import edu.espe.springlab.dto.StudentLookupResult;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.impl.StudentLookupServiceImpl;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "app.students.lookup.chunk-size=2")
+@Import({StudentLookupServiceImpl.class, CacheConfig.class})
+public class StudentLookupServiceTest {
+
+    @Autowired
+    private StudentLookupService lookupService;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void shouldResolveIdsInRequestOrderWithNotFoundMarkers() {
+        Student a = save("Ana Torres", "ana@espe.edu.ec");
+        Student b = save("Luis Mora", "luis@espe.edu.ec");
+        Student c = save("Pedro Vega", "pedro@espe.edu.ec");
+        cacheManager.getCache(CacheConfig.STUDENTS_CACHE).clear();
+
+        StudentLookupRequest req = new StudentLookupRequest();
+        req.setIds(List.of(c.getId(), 9999L, a.getId(), b.getId(), c.getId()));
+        StudentLookupResponse first = lookupService.lookup(req);
+
+        assertThat(first.getResults()).extracting(StudentLookupResult::getId)
+                .containsExactly(c.getId(), 9999L, a.getId(), b.getId(), c.getId());
+        assertThat(first.getResults()).extracting(StudentLookupResult::isFound)
+                .containsExactly(true, false, true, true, true);
+        assertThat(first.getResults().get(1).getStudent()).isNull();
+        assertThat(first.getResults().get(2).getStudent().email()).isEqualTo("ana@espe.edu.ec");
+        assertThat(first.getFound()).isEqualTo(4);
+        assertThat(first.getNotFound()).isEqualTo(1);
+        // 4 ids distintos en lotes de 2
+        assertThat(first.getQueries()).isEqualTo(2);
+
+        // Los encontrados quedaron en caché: solo el inexistente vuelve a la BD
+        StudentLookupResponse second = lookupService.lookup(req);
+        assertThat(second.getCacheHits()).isEqualTo(3);
+        assertThat(second.getQueries()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResolveEmailsIgnoringCase() {
+        Student a = save("Ana Torres", "ana@espe.edu.ec");
+
+        StudentLookupRequest req = new StudentLookupRequest();
+        req.setEmails(List.of("nadie@espe.edu.ec", "ana@espe.edu.ec", " ANA@espe.edu.ec"));
+        StudentLookupResponse response = lookupService.lookup(req);
+
+        assertThat(response.getResults()).extracting(StudentLookupResult::isFound).containsExactly(false, true, true);
+        assertThat(response.getResults().get(2).getStudent().id()).isEqualTo(a.getId());
+        assertThat(response.getResults().get(2).getEmail()).isEqualTo(" ANA@espe.edu.ec");
+    }
+
+    @Test
+    void shouldResolveEmailsStoredWithDifferentCase() {
+        Student luis = save("Luis Mora", "Luis.Mora@ESPE.edu.ec");
+
+        StudentLookupRequest req = new StudentLookupRequest();
+        req.setEmails(List.of("luis.mora@espe.edu.ec", "LUIS.MORA@espe.edu.ec"));
+        StudentLookupResponse response = lookupService.lookup(req);
+
+        assertThat(response.getResults()).extracting(StudentLookupResult::isFound).containsExactly(true, true);
+        assertThat(response.getResults().get(0).getStudent().id()).isEqualTo(luis.getId());
+        assertThat(response.getQueries()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRequireExactlyOneList() {
+        StudentLookupRequest req = new StudentLookupRequest();
+        assertThatThrownBy(() -> lookupService.lookup(req)).isInstanceOf(BadRequestException.class);
+
+        req.setIds(List.of(1L));
+        req.setEmails(List.of("ana@espe.edu.ec"));
+        assertThatThrownBy(() -> lookupService.lookup(req)).isInstanceOf(BadRequestException.class);
+    }
+
+    private Student save(String fullName, String email) {
+        Student s = new Student();
+        s.setFullName(fullName);
+        s.setEmail(email);
+        s.setActive(true);
+        return repository.save(s);
+    }
+}
@@ -1,21 +1,33 @@
 package edu.espe.springlab.service;
 
 import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentPage;
 import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.dto.StudentResponse;
+import edu.espe.springlab.dto.StudentSearchPage;
 import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.coalesce.StudentReadCoalescer;
 import edu.espe.springlab.service.impl.StudentServiceImpl;
+import edu.espe.springlab.service.index.StudentEmailIndex;
+import edu.espe.springlab.service.index.StudentNameIndex;
+import edu.espe.springlab.web.advice.BadRequestException;
 import edu.espe.springlab.web.advice.ConflictException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import({StudentServiceImpl.class})
+@Import({StudentServiceImpl.class, StudentEmailIndex.class, StudentNameIndex.class, StudentReadCoalescer.class})
 public class StudentServiceTest {
 
     @Autowired
@@ -24,6 +36,9 @@ public class StudentServiceTest {
     @Autowired
     private StudentRepository repository;
 
+    @Autowired
+    private StudentEmailIndex emailIndex;
+
     @Test
     void shouldNotAllowDuplicateEmail() {
         Student existing = new Student();
@@ -34,12 +49,82 @@ public class StudentServiceTest {
 
         repository.save(existing);
 
-        StudentRequestData req = new StudentRequestData();
-        req.setFullName("New User Dup");
-        req.setEmail("duplicate@example.com");
-        req.setBirthDate(LocalDate.of(2000, 10, 10));
+        StudentRequestData req = new StudentRequestData("New User Dup", "duplicate@example.com", LocalDate.of(2000, 10, 10));
+
+        assertThatThrownBy(() -> service.create(req))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldMapUniqueViolationToConflictWhenIndexMisses() {
+        emailIndex.warmUp();
+
+        // Guardado directo: el indice no se entera y no puede descartar el email
+        Student existing = new Student();
+        existing.setFullName("Race Winner");
+        existing.setEmail("race@example.com");
+        existing.setActive(true);
+        repository.save(existing);
+        assertThat(emailIndex.mightContain("race@example.com")).isFalse();
+
+        StudentRequestData req = new StudentRequestData("Race Loser", "race@example.com", null);
 
         assertThatThrownBy(() -> service.create(req))
                 .isInstanceOf(ConflictException.class);
     }
+
+    @Test
+    void shouldWalkAllStudentsWithCursor() {
+        for (int i = 1; i <= 5; i++) {
+            Student s = new Student();
+            s.setFullName("Student " + i);
+            s.setEmail("cursor" + i + "@example.com");
+            s.setActive(true);
+            repository.save(s);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            StudentPage page = service.listPage(cursor, 2);
+            page.getItems().forEach(r -> seen.add(r.id()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(5).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> service.listPage("no-es-un-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // Sin la transacción del test: el índice se actualiza cuando cada alta se confirma
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldFindStudentsByNameIgnoringAccentsAndCase() {
+        List<Long> created = new ArrayList<>();
+        try {
+            created.add(service.create(request("José Núñez Andrade", "jose.nunez@example.com")).id());
+            created.add(service.create(request("Josefina Pérez", "josefina@example.com")).id());
+            created.add(service.create(request("María Ortega", "maria.ortega@example.com")).id());
+
+            StudentSearchPage result = service.searchByName("jose nunez", 0, 10);
+
+            assertThat(result.getItems()).isNotEmpty();
+            assertThat(result.getItems().get(0).email()).isEqualTo("jose.nunez@example.com");
+            assertThat(result.getItems()).extracting(StudentResponse::email)
+                    .doesNotContain("maria.ortega@example.com");
+        } finally {
+            repository.deleteAllById(created);
+        }
+    }
+
+    private static StudentRequestData request(String fullName, String email) {
+        return new StudentRequestData(fullName, email, null);
+    }
 }
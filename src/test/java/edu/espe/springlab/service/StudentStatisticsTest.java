@@ -0,0 +1,66 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentStats;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.event.StudentChangedEvent;
+import edu.espe.springlab.service.mapper.StudentMapper;
+import edu.espe.springlab.service.stats.StudentStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(StudentStatistics.class)
+public class StudentStatisticsTest {
+
+    @Autowired
+    private StudentStatistics statistics;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Test
+    void shouldRecountFromDatabaseAndApplyEventsIncrementally() {
+        int year = LocalDate.now().getYear();
+        save("Ana Torres", "ana@espe.edu.ec", LocalDate.of(year - 20, 1, 1), true);
+        save("Luis Mora", "luis@ESPE.edu.ec", null, false);
+        statistics.recount();
+
+        StudentStats stats = statistics.snapshot(10);
+        assertThat(stats.total()).isEqualTo(2);
+        assertThat(stats.active()).isEqualTo(1);
+        assertThat(stats.ageBuckets()).containsEntry("18-21", 1L).containsEntry("unknown", 1L);
+        assertThat(stats.emailDomains()).containsEntry("espe.edu.ec", 2L);
+
+        Student pedro = save("Pedro Vega", "pedro@example.com", LocalDate.of(year - 35, 6, 1), true);
+        statistics.onStudentChanged(StudentChangedEvent.created(StudentMapper.toResponse(pedro)));
+        pedro.setActive(false);
+        statistics.onStudentChanged(StudentChangedEvent.updated(StudentMapper.toResponse(pedro), true));
+
+        stats = statistics.snapshot(1);
+        assertThat(stats.total()).isEqualTo(3);
+        assertThat(stats.inactive()).isEqualTo(2);
+        assertThat(stats.ageBuckets()).containsEntry("31-40", 1L);
+        assertThat(stats.emailDomains()).containsOnlyKeys("espe.edu.ec");
+        assertThat(stats.otherDomains()).isEqualTo(1);
+
+        repository.save(pedro);
+        statistics.recount();
+        assertThat(statistics.snapshot(10).lastDrift()).isZero();
+    }
+
+    private Student save(String fullName, String email, LocalDate birthDate, boolean active) {
+        Student s = new Student();
+        s.setFullName(fullName);
+        s.setEmail(email);
+        s.setBirthDate(birthDate);
+        s.setActive(active);
+        return repository.save(s);
+    }
+}
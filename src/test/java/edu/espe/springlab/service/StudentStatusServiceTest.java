@@ -0,0 +1,114 @@
+package edu.espe.springlab.service;
+
+import edu.espe.springlab.config.CacheConfig;
+import edu.espe.springlab.domain.Student;
+import edu.espe.springlab.dto.StudentStatusChangeReport;
+import edu.espe.springlab.dto.StudentStatusChangeRequest;
+import edu.espe.springlab.repository.StudentRepository;
+import edu.espe.springlab.service.impl.StudentStatusServiceImpl;
+import edu.espe.springlab.web.advice.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "app.students.bulk.chunk-size=2")
+@Import({StudentStatusServiceImpl.class, CacheConfig.class})
+public class StudentStatusServiceTest {
+
+    @Autowired
+    private StudentStatusService statusService;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Test
+    void shouldDeactivateListedStudentsAndReportMissingIds() {
+        Student a = save("Ana Torres", "ana@espe.edu.ec", true);
+        Student b = save("Luis Mora", "luis@espe.edu.ec", true);
+        Student c = save("Pedro Vega", "pedro@espe.edu.ec", false);
+
+        StudentStatusChangeRequest req = new StudentStatusChangeRequest();
+        req.setActive(false);
+        req.setIds(List.of(a.getId(), b.getId(), c.getId(), 9999L));
+        StudentStatusChangeReport report = statusService.changeStatus(req);
+
+        assertThat(report.getMatched()).isEqualTo(3);
+        assertThat(report.getUpdated()).isEqualTo(2);
+        assertThat(report.getUnchanged()).isEqualTo(1);
+        assertThat(report.getNotFound()).containsExactly(9999L);
+        assertThat(repository.findById(a.getId())).get()
+                .extracting(Student::getActive, Student::getVersion)
+                .containsExactly(false, 1L);
+    }
+
+    @Test
+    void shouldDeactivateByEmailDomainOnly() {
+        Student espe = save("Ana Torres", "ana@espe.edu.ec", true);
+        Student other = save("Luis Mora", "luis@example.com", true);
+
+        StudentStatusChangeRequest req = new StudentStatusChangeRequest();
+        req.setActive(false);
+        req.setEmailDomain("ESPE.edu.ec");
+        StudentStatusChangeReport report = statusService.changeStatus(req);
+
+        assertThat(report.getUpdated()).isEqualTo(1);
+        assertThat(repository.findById(espe.getId()).orElseThrow().getActive()).isFalse();
+        assertThat(repository.findById(other.getId()).orElseThrow().getActive()).isTrue();
+    }
+
+    @Test
+    void shouldTreatNullActiveAsActiveWhenFiltering() {
+        Student legacy = save("Ana Torres", "ana@espe.edu.ec", null);
+
+        StudentStatusChangeRequest req = new StudentStatusChangeRequest();
+        req.setActive(false);
+        req.setEmailDomain("espe.edu.ec");
+        StudentStatusChangeReport report = statusService.changeStatus(req);
+
+        assertThat(report.getMatched()).isEqualTo(1);
+        assertThat(report.getUpdated()).isEqualTo(1);
+        assertThat(repository.findById(legacy.getId())).get()
+                .extracting(Student::getActive, Student::getVersion)
+                .containsExactly(false, 1L);
+    }
+
+    @Test
+    void shouldReportStaleExpectedVersionAsConflict() {
+        Student a = save("Ana Torres", "ana@espe.edu.ec", true);
+
+        StudentStatusChangeRequest req = new StudentStatusChangeRequest();
+        req.setActive(false);
+        req.setIds(List.of(a.getId()));
+        req.setExpectedVersions(Map.of(a.getId(), 7L));
+        StudentStatusChangeReport report = statusService.changeStatus(req);
+
+        assertThat(report.getUpdated()).isZero();
+        assertThat(report.getConflicts()).containsExactly(a.getId());
+        assertThat(repository.findById(a.getId()).orElseThrow().getActive()).isTrue();
+    }
+
+    @Test
+    void shouldRejectIdsCombinedWithFilter() {
+        StudentStatusChangeRequest req = new StudentStatusChangeRequest();
+        req.setActive(false);
+        req.setIds(List.of(1L));
+        req.setEmailDomain("espe.edu.ec");
+
+        assertThatThrownBy(() -> statusService.changeStatus(req)).isInstanceOf(BadRequestException.class);
+    }
+
+    private Student save(String fullName, String email, Boolean active) {
+        Student s = new Student();
+        s.setFullName(fullName);
+        s.setEmail(email);
+        s.setActive(active);
+        return repository.save(s);
+    }
+}
@@ -0,0 +1,49 @@
+package edu.espe.springlab.web.controller;
+
+import edu.espe.springlab.dto.StudentRequestData;
+import edu.espe.springlab.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tomcat real (MockMvc no pasa por server.compression); HttpClient no descomprime solo
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class StudentCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StudentService service;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void shouldGzipLargeListsThatCarryAnETag() throws Exception {
+        // Más de min-response-size (2 KB) en JSON
+        for (int i = 0; i < 40; i++) {
+            service.create(new StudentRequestData("Compressed Student " + i, "compressed" + i + "@example.com", null));
+        }
+
+        HttpResponse<byte[]> list = get("/api/students");
+        assertThat(list.statusCode()).isEqualTo(200);
+        assertThat(list.headers().firstValue("ETag")).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/"));
+        assertThat(list.headers().firstValue("Content-Encoding")).contains("gzip");
+    }
+
+    private HttpResponse<byte[]> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
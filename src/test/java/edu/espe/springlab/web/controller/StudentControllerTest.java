@@ -0,0 +1,167 @@
+package edu.espe.springlab.web.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StudentControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void shouldAnswerNotModifiedUntilTheStudentChanges() throws Exception {
+        MvcResult created = mvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Etag User\",\"email\":\"etag.user@example.com\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn();
+        String location = "/api/students/" + JsonPath.read(
+                created.getResponse().getContentAsString(), "$.id");
+
+        String etag = mvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(patch(location + "/deactivate")).andExpect(status().isOk());
+
+        mvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(false))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void shouldValidateTheCollectionWithoutReloadingIt() throws Exception {
+        String etag = mvc.perform(get("/api/students"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Etag List\",\"email\":\"etag.list@example.com\"}"))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldNegotiateCborForServiceClients() throws Exception {
+        MvcResult created = mvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Cbor User\",\"email\":\"cbor.user@example.com\",\"birthDate\":\"2001-02-03\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+
+        byte[] body = mvc.perform(get("/api/students/" + id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode student = new CBORMapper().readTree(body);
+        assertThat(student.get("email").asText()).isEqualTo("cbor.user@example.com");
+        assertThat(student.get("birthDate").asText()).isEqualTo("2001-02-03");
+    }
+
+    @Test
+    void shouldExportSelectedColumnsAsCsvAndGzippedNdjson() throws Exception {
+        MvcResult created = mvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Export, User\",\"email\":\"export.user@example.com\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+
+        MvcResult csv = mvc.perform(get("/api/students/export").param("columns", "id,fullName").param("active", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("id,fullName\r\n").contains(id + ",\"Export, User\"\r\n");
+
+        MvcResult ndjson = mvc.perform(get("/api/students/export").param("format", "ndjson")
+                        .param("columns", "email").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] gzipped = mvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            String lines = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(lines).contains("{\"email\":\"export.user@example.com\"}\n").doesNotContain("fullName");
+        }
+    }
+
+    @Test
+    void shouldWriteTheSameJsonForSingleReadsAndStreamedRows() throws Exception {
+        MvcResult created = mvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Row \\\"Quoted\\\" User\",\"email\":\"row.user@example.com\",\"birthDate\":\"1999-12-31\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+        // Mismos campos y orden en el serializador del DTO y en las filas del cursor
+        // (updatedAt puede diferir en la precision guardada por la BD)
+        String prefix = "{\"id\":" + id + ",\"fullName\":\"Row \\\"Quoted\\\" User\",\"email\":\"row.user@example.com\","
+                + "\"birthDate\":\"1999-12-31\",\"active\":true,\"version\":0,\"updatedAt\":\"";
+
+        String single = mvc.perform(get("/api/students/" + id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(single).startsWith(prefix);
+
+        MvcResult stream = mvc.perform(get("/api/students").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String lines = mvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(lines.split("\n")).anyMatch(line -> line.startsWith(prefix));
+    }
+
+    @Test
+    void shouldRejectUnknownExportColumnsBeforeStreaming() throws Exception {
+        mvc.perform(get("/api/students/export").param("columns", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
+}